@@ -0,0 +1,38 @@
+-- Tamanho do índice único e custo da busca por CPF em varchar(11) x bigint, com 10 milhões de linhas.
+-- Rodar num PostgreSQL de teste (não no banco da aplicação): psql -f benchmarks/cpf-bigint-postgresql.sql
+\timing on
+
+drop table if exists bench_cpf_varchar, bench_cpf_bigint;
+
+create table bench_cpf_varchar (cliente_id bigint primary key, cpf varchar(11) not null);
+create table bench_cpf_bigint (cliente_id bigint primary key, cpf bigint not null);
+
+-- Mesmos CPFs nas duas tabelas: 7919 é primo com o módulo, então os valores são distintos
+insert into bench_cpf_varchar select x, lpad((x * 7919 % 99999999999)::text, 11, '0') from generate_series(1, 10000000) x;
+insert into bench_cpf_bigint select x, x * 7919 % 99999999999 from generate_series(1, 10000000) x;
+
+alter table bench_cpf_varchar add constraint uk_bench_cpf_varchar unique (cpf);
+alter table bench_cpf_bigint add constraint uk_bench_cpf_bigint unique (cpf);
+vacuum analyze bench_cpf_varchar, bench_cpf_bigint;
+
+select 'varchar(11)' as cpf, pg_size_pretty(pg_relation_size('uk_bench_cpf_varchar')) as indice
+union all
+select 'bigint', pg_size_pretty(pg_relation_size('uk_bench_cpf_bigint'));
+
+-- findByCpf: uma busca pontual em cada formato
+explain (analyze, buffers) select cliente_id, cpf from bench_cpf_varchar where cpf = '00000079190';
+explain (analyze, buffers) select cliente_id, cpf from bench_cpf_bigint where cpf = 79190;
+
+-- 100 mil buscas pontuais seguidas (o \timing mostra o total de cada uma; o lpad do laço varchar custa pouco perto da busca)
+do $$ declare r bigint; begin
+  for i in 1..100000 loop
+    select cliente_id into r from bench_cpf_varchar where cpf = lpad(((i * 97) * 7919 % 99999999999)::text, 11, '0');
+  end loop;
+end $$;
+do $$ declare r bigint; begin
+  for i in 1..100000 loop
+    select cliente_id into r from bench_cpf_bigint where cpf = (i * 97) * 7919 % 99999999999;
+  end loop;
+end $$;
+
+drop table bench_cpf_varchar, bench_cpf_bigint;
@@ -0,0 +1,49 @@
+package com.neoapp.dto;
+
+import com.neoapp.model.Cliente;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// Conversões do MapStruct em cada gravação (toEntity / updateClienteFromDto) e em cada leitura (toDto)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClienteMapperBenchmark {
+
+    private final ClienteMapper mapper = ClienteMapper.INSTANCE;
+    private ClienteRequestDTO requisicao;
+    private Cliente cliente;
+
+    @Setup
+    public void preparar() {
+        requisicao = new ClienteRequestDTO(" 52998224725 ", " Maria da Silva ", LocalDate.of(1985, 3, 20), " maria@email.com ");
+        cliente = mapper.toEntity(requisicao);
+        cliente.setId(42L);
+        cliente.setCreatedAt(LocalDateTime.of(2024, 1, 10, 9, 30));
+    }
+
+    @Benchmark
+    public Cliente toEntity() {
+        return mapper.toEntity(requisicao);
+    }
+
+    @Benchmark
+    public ClienteResponseDTO toDto() {
+        return mapper.toDto(cliente);
+    }
+
+    @Benchmark
+    public Cliente updateClienteFromDto() {
+        mapper.updateClienteFromDto(requisicao, cliente);
+        return cliente;
+    }
+}
@@ -0,0 +1,68 @@
+package com.neoapp.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.neoapp.CpfGenerator;
+import com.neoapp.dto.ClienteResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Corpo das respostas de GET /clientes/{id} e GET /clientes, com o ObjectMapper configurado como o do Spring Boot
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    private final ObjectWriter writer = Jackson2ObjectMapperBuilder.json().build().writer();
+    private final ApiResponse<ClienteResponseDTO> cliente = ApiResponse.success(cliente(1));
+
+    @State(Scope.Benchmark)
+    public static class Pagina {
+
+        @Param({"20", "100"})
+        public int tamanho;
+
+        private ApiResponse<Page<ClienteResponseDTO>> resposta;
+
+        @Setup
+        public void preparar() {
+            List<ClienteResponseDTO> clientes = new ArrayList<>(tamanho);
+            for (int i = 0; i < tamanho; i++) {
+                clientes.add(cliente(i + 1));
+            }
+            resposta = ApiResponse.success(new PageImpl<>(clientes, PageRequest.of(0, tamanho), 10_000));
+        }
+    }
+
+    @Benchmark
+    public byte[] cliente() throws JsonProcessingException {
+        return writer.writeValueAsBytes(cliente);
+    }
+
+    @Benchmark
+    public byte[] pagina(Pagina pagina) throws JsonProcessingException {
+        return writer.writeValueAsBytes(pagina.resposta);
+    }
+
+    private static ClienteResponseDTO cliente(int i) {
+        return new ClienteResponseDTO((long) i, CpfGenerator.cpf(100_000 + i), "Cliente " + i,
+                LocalDate.of(1980 + i % 30, 1 + i % 12, 10), "cliente" + i + "@email.com",
+                LocalDateTime.of(2024, 1, 10, 9, 30), 0L);
+    }
+}
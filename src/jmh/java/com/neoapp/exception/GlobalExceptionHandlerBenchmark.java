@@ -0,0 +1,65 @@
+package com.neoapp.exception;
+
+import com.neoapp.dto.ClienteRequestDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// Caminho de erro completo: criação da exceção (com stack trace) e montagem da resposta pelo handler
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private MethodParameter parametro;
+    private ClienteRequestDTO invalido;
+
+    @Setup
+    public void preparar() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler(new SimpleMeterRegistry());
+        parametro = new MethodParameter(GlobalExceptionHandlerBenchmark.class.getDeclaredMethod("endpoint", ClienteRequestDTO.class), 0);
+        invalido = new ClienteRequestDTO("123", "", LocalDate.of(2999, 1, 1), "invalido");
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Object>> naoEncontrado() {
+        return handler.handleResourceNotFoundException(new ResourceNotFoundException(ErrorCode.CLIENTE_NOT_FOUND));
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Object>> regraDeNegocio() {
+        return handler.handleBusinessRuleException(new BusinessRuleException(ErrorCode.CPF_ALREADY_EXISTS));
+    }
+
+    // Três campos inválidos, como um POST /clientes rejeitado pelo @Valid
+    @Benchmark
+    public ResponseEntity<ApiResponse<Object>> validacao() {
+        BeanPropertyBindingResult erros = new BeanPropertyBindingResult(invalido, "clienteRequestDTO");
+        erros.addError(erro("cpf", invalido.cpf(), "CPF inválido"));
+        erros.addError(erro("nome", invalido.nome(), "Nome é obrigatório"));
+        erros.addError(erro("dataNascimento", invalido.dataNascimento(), "Data de nascimento deve estar no passado"));
+        return handler.handleMethodArgumentNotValidException(new MethodArgumentNotValidException(parametro, erros));
+    }
+
+    private static FieldError erro(String campo, Object valor, String mensagem) {
+        return new FieldError("clienteRequestDTO", campo, valor, false, null, null, mensagem);
+    }
+
+    @SuppressWarnings("unused")
+    private void endpoint(ClienteRequestDTO dto) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.neoapp.repository;
+
+import com.neoapp.model.CpfConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+// Consulta por CPF no índice único (o que findByCpf executa), com a coluna em varchar(11) e em bigint.
+// H2 em memória via JDBC: mede a busca no índice e a conversão, sem rede nem Hibernate.
+// Tabela grande: -Djmh.args="-p linhas=10000000 ..." (precisa de alguns GB de heap no fork)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CpfLookupBenchmark {
+
+    private static final int CONSULTAS = 1024;
+    // Primo com o módulo: CPFs distintos e espalhados pelo índice
+    private static final long PASSO = 7919;
+    private static final long MODULO = 99_999_999_999L;
+
+    @Param({"varchar", "bigint"})
+    public String tipo;
+
+    @Param({"1000000"})
+    public int linhas;
+
+    private Connection conexao;
+    private PreparedStatement consulta;
+    private String[] cpfs;
+    private int proximo;
+
+    @Setup(Level.Trial)
+    public void preparar() throws SQLException {
+        conexao = DriverManager.getConnection("jdbc:h2:mem:cpf_" + tipo + ";MODE=PostgreSQL");
+        try (Statement ddl = conexao.createStatement()) {
+            String valor = "X * " + PASSO + " % " + MODULO;
+            if (tipo.equals("varchar")) {
+                ddl.execute("create table clients (cliente_id bigint primary key, cpf varchar(11) not null)");
+                ddl.execute("insert into clients select X, lpad(cast(" + valor + " as varchar), 11, '0') from system_range(1, " + linhas + ")");
+            } else {
+                ddl.execute("create table clients (cliente_id bigint primary key, cpf bigint not null)");
+                ddl.execute("insert into clients select X, " + valor + " from system_range(1, " + linhas + ")");
+            }
+            ddl.execute("alter table clients add constraint uk_clients_cpf unique (cpf)");
+        }
+        consulta = conexao.prepareStatement("select cliente_id, cpf from clients where cpf = ?");
+
+        cpfs = new String[CONSULTAS];
+        for (int i = 0; i < CONSULTAS; i++) {
+            long x = 1 + (long) i * (linhas / CONSULTAS);
+            cpfs[i] = CpfConverter.texto(x * PASSO % MODULO);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() throws SQLException {
+        try (Statement ddl = conexao.createStatement()) {
+            ddl.execute("drop table clients");
+        }
+        conexao.close();
+    }
+
+    @Benchmark
+    public String findByCpf() throws SQLException {
+        String cpf = cpfs[proximo++ & (CONSULTAS - 1)];
+        if (tipo.equals("varchar")) {
+            consulta.setString(1, cpf);
+        } else {
+            consulta.setLong(1, CpfConverter.numero(cpf));
+        }
+        try (ResultSet rs = consulta.executeQuery()) {
+            rs.next();
+            return tipo.equals("varchar") ? rs.getString(2) : CpfConverter.texto(rs.getLong(2));
+        }
+    }
+}
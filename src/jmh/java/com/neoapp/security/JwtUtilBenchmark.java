@@ -0,0 +1,74 @@
+package com.neoapp.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+// Emissão e verificação de tokens. "semCache" percorre mais tokens distintos do que cabem no cache
+// de tokens verificados: cada chamada paga parse + verificação HMAC, como o primeiro uso de um token
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "dGVzdGUtc2VjcmV0LWp3dC1jbGllbnRlcy1hcGktMzItYnl0ZXMtbWluaW1v";
+    private static final int TOKENS_DISTINTOS = 1024;
+
+    private JwtUtil jwtUtil;
+    private JwtUtil jwtUtilCacheMinimo;
+    private UserDetails usuario;
+    private String token;
+    private String[] tokens;
+    private int proximo;
+
+    @Setup
+    public void preparar() {
+        jwtUtil = novoJwtUtil(10_000);
+        jwtUtilCacheMinimo = novoJwtUtil(1);
+        usuario = new AppUserDetails("benchmark", "", Collections.emptyList(), 0);
+        token = jwtUtil.generateToken(usuario);
+        tokens = new String[TOKENS_DISTINTOS];
+        for (int i = 0; i < TOKENS_DISTINTOS; i++) {
+            tokens[i] = jwtUtil.generateToken(new AppUserDetails("usuario" + i, "", Collections.emptyList(), 0));
+        }
+    }
+
+    private static JwtUtil novoJwtUtil(long cacheMaxSize) {
+        JwtUtil util = new JwtUtil();
+        ReflectionTestUtils.setField(util, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(util, "jwtExpirationMs", 3_600_000L);
+        ReflectionTestUtils.setField(util, "refreshExpirationMs", 604_800_000L);
+        ReflectionTestUtils.setField(util, "cacheMaxSize", cacheMaxSize);
+        util.init();
+        return util;
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(usuario);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public String extractUsername_semCache() {
+        return jwtUtilCacheMinimo.extractUsername(tokens[proximo++ & (TOKENS_DISTINTOS - 1)]);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtUtil.isTokenValid(token, usuario);
+    }
+}
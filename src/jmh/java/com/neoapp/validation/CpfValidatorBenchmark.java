@@ -0,0 +1,91 @@
+package com.neoapp.validation;
+
+import com.neoapp.CpfGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// Validação de CPF como na importação: maioria válidos, alguns com dígito errado, repetidos ou com letras
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CpfValidatorBenchmark {
+
+    private static final int QUANTIDADE = 1024;
+
+    private final CpfValidator validator = new CpfValidator();
+    private String[] cpfs;
+    private String[] mascarados;
+    private String[] cnpjs;
+    private int proximo;
+
+    @Setup
+    public void preparar() {
+        cpfs = new String[QUANTIDADE];
+        mascarados = new String[QUANTIDADE];
+        cnpjs = new String[QUANTIDADE];
+        for (int i = 0; i < QUANTIDADE; i++) {
+            String cpf = CpfGenerator.cpf(100_000 + i * 7919);
+            cpfs[i] = switch (i % 16) {
+                case 13 -> cpf.substring(0, 10) + (char) ('0' + (cpf.charAt(10) - '0' + 1) % 10);
+                case 14 -> "11111111111";
+                case 15 -> cpf.substring(0, 5) + "a" + cpf.substring(6);
+                default -> cpf;
+            };
+            mascarados[i] = cpfs[i].substring(0, 3) + "." + cpfs[i].substring(3, 6) + "."
+                    + cpfs[i].substring(6, 9) + "-" + cpfs[i].substring(9);
+            cnpjs[i] = i % 2 == 0 ? "11.222.333/0001-81" : "12ABC34501DE35";
+        }
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        String cpf = cpfs[proximo++ & (QUANTIDADE - 1)];
+        return validator.isValid(cpf, null);
+    }
+
+    // Implementação anterior, mantida só como referência de comparação
+    @Benchmark
+    public boolean isValidAnterior() {
+        String cpf = cpfs[proximo++ & (QUANTIDADE - 1)];
+        return anterior(cpf);
+    }
+
+    @Benchmark
+    public boolean cpfMascarado() {
+        return Documentos.cpfValido(mascarados[proximo++ & (QUANTIDADE - 1)], true);
+    }
+
+    @Benchmark
+    public Documentos.Tipo cnpj() {
+        return Documentos.tipo(cnpjs[proximo++ & (QUANTIDADE - 1)]);
+    }
+
+    private static boolean anterior(String cpf) {
+        if (cpf == null || !cpf.matches("\\d{11}")) return false;
+        if (cpf.chars().distinct().count() == 1) return false;
+
+        int soma = 0;
+        for (int i = 0; i < 9; i++) {
+            soma += Character.getNumericValue(cpf.charAt(i)) * (10 - i);
+        }
+        int primeiroDigito = 11 - (soma % 11);
+        if (primeiroDigito >= 10) primeiroDigito = 0;
+
+        soma = 0;
+        for (int i = 0; i < 10; i++) {
+            soma += Character.getNumericValue(cpf.charAt(i)) * (11 - i);
+        }
+        int segundoDigito = 11 - (soma % 11);
+        if (segundoDigito >= 10) segundoDigito = 0;
+
+        return primeiroDigito == Character.getNumericValue(cpf.charAt(9))
+                && segundoDigito == Character.getNumericValue(cpf.charAt(10));
+    }
+}
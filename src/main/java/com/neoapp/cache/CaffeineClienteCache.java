@@ -0,0 +1,84 @@
+package com.neoapp.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.neoapp.dto.ClienteResponseDTO;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+// O DTO fica só no cache por id; o cache por CPF guarda apenas CPF -> id.
+// Assim existe uma única cópia de cada cliente e uma entrada de CPF desatualizada vira miss, nunca dado errado.
+// `idade` depende da data atual, então nenhuma entrada atravessa a meia-noite.
+public class CaffeineClienteCache implements ClienteCache {
+
+    private final Cache<Long, ClienteResponseDTO> porId;
+    private final Cache<String, Long> idPorCpf;
+
+    public CaffeineClienteCache(long maxSize, Duration ttl) {
+        this.porId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((Long id, ClienteResponseDTO cliente) -> ateMeiaNoite(ttl)))
+                .recordStats()
+                .build();
+        this.idPorCpf = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.creating((String cpf, Long id) -> ateMeiaNoite(ttl)))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Optional<ClienteResponseDTO> porId(Long id) {
+        return Optional.ofNullable(porId.getIfPresent(id));
+    }
+
+    @Override
+    public Optional<ClienteResponseDTO> porCpf(String cpf) {
+        Long id = idPorCpf.getIfPresent(cpf);
+        if (id == null) {
+            return Optional.empty();
+        }
+        ClienteResponseDTO cliente = porId.getIfPresent(id);
+        if (cliente == null || !cpf.equals(cliente.cpf())) {
+            idPorCpf.invalidate(cpf);
+            return Optional.empty();
+        }
+        return Optional.of(cliente);
+    }
+
+    @Override
+    public void put(ClienteResponseDTO cliente) {
+        porId.put(cliente.id(), cliente);
+        idPorCpf.put(cliente.cpf(), cliente.id());
+    }
+
+    @Override
+    public void invalidar(Long id, String... cpfs) {
+        porId.invalidate(id);
+        for (String cpf : cpfs) {
+            if (cpf != null) {
+                idPorCpf.invalidate(cpf);
+            }
+        }
+    }
+
+    // Estatísticas próprias do Caffeine, lidas pelo MetricsConfig; fora da interface ClienteCache
+    public CacheStats porIdStats() {
+        return porId.stats();
+    }
+
+    public CacheStats porCpfStats() {
+        return idPorCpf.stats();
+    }
+
+    private static Duration ateMeiaNoite(Duration ttl) {
+        LocalDateTime agora = LocalDateTime.now();
+        Duration restante = Duration.between(agora, LocalDate.now().plusDays(1).atStartOfDay());
+        return restante.compareTo(ttl) < 0 ? restante : ttl;
+    }
+}
@@ -0,0 +1,19 @@
+package com.neoapp.cache;
+
+import com.neoapp.dto.ClienteResponseDTO;
+
+import java.util.Optional;
+
+// Cache de leitura de clientes por id e por CPF.
+// Implementações precisam garantir que uma consulta por CPF nunca devolva um cliente cujo CPF atual seja outro.
+public interface ClienteCache {
+
+    Optional<ClienteResponseDTO> porId(Long id);
+
+    Optional<ClienteResponseDTO> porCpf(String cpf);
+
+    void put(ClienteResponseDTO cliente);
+
+    // `cpfs`: CPFs que já apontaram para o cliente (o atual e, numa troca, o anterior)
+    void invalidar(Long id, String... cpfs);
+}
@@ -0,0 +1,25 @@
+package com.neoapp.cache;
+
+import com.neoapp.service.ClienteEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Invalida após o commit, para que uma leitura concorrente não recoloque no cache o estado anterior à gravação
+@Component
+public class ClienteCacheInvalidation {
+
+    private final ClienteCache clienteCache;
+
+    public ClienteCacheInvalidation(ClienteCache clienteCache) {
+        this.clienteCache = clienteCache;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ClienteEvent evento) {
+        if (evento.tipo() == ClienteEvent.Tipo.REMOVIDO) {
+            clienteCache.invalidar(evento.id());
+        } else {
+            clienteCache.invalidar(evento.id(), evento.cliente().cpf(), evento.cpfAnterior());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.neoapp.config;
+
+import com.neoapp.cache.CaffeineClienteCache;
+import com.neoapp.cache.ClienteCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    // Caffeine local; um backend distribuído entra aqui implementando ClienteCache
+    @Bean
+    public ClienteCache clienteCache(@Value("${clientes.cache.max-size:10000}") long maxSize,
+                                     @Value("${clientes.cache.ttl:PT10M}") Duration ttl) {
+        return new CaffeineClienteCache(maxSize, ttl);
+    }
+}
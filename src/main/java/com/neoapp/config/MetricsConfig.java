@@ -0,0 +1,136 @@
+package com.neoapp.config;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.neoapp.cache.CaffeineClienteCache;
+import com.neoapp.cache.ClienteCache;
+import com.neoapp.datasource.BulkheadDataSource;
+import com.neoapp.datasource.ReplicaRoutingDataSource;
+import com.neoapp.search.ClienteSearchIndex;
+import com.neoapp.security.AppUserDetailsService;
+import com.neoapp.security.BoundedPasswordEncoder;
+import com.neoapp.security.JwtUtil;
+import com.neoapp.security.TokenRevocationRegistry;
+import com.neoapp.service.ClienteUnicidadeFiltro;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+import java.util.function.Function;
+
+// Métricas dos componentes próprios da aplicação. HTTP (http.server.requests), repositórios
+// (spring.data.repository.invocations), Hikari, JVM e Tomcat vêm da autoconfiguração do Actuator.
+@Configuration
+public class MetricsConfig {
+
+    // Caches Caffeine: mesmos nomes do CaffeineCacheMetrics (cache.gets, cache.evictions), lidos das estatísticas
+    @Bean
+    public MeterBinder cacheMetrics(ClienteCache clienteCache, JwtUtil jwtUtil, TokenRevocationRegistry revocationRegistry,
+                                    AppUserDetailsService userDetailsService) {
+        return registry -> {
+            if (clienteCache instanceof CaffeineClienteCache caffeine) {
+                registrarCache(registry, "clientes.porId", caffeine, CaffeineClienteCache::porIdStats);
+                registrarCache(registry, "clientes.porCpf", caffeine, CaffeineClienteCache::porCpfStats);
+            }
+            registrarCache(registry, "jwt.verifiedTokens", jwtUtil, JwtUtil::verifiedTokenCacheStats);
+            registrarCache(registry, "jwt.revocations", revocationRegistry, TokenRevocationRegistry::revogacoesStats);
+            registrarCache(registry, "usuarios", userDetailsService, AppUserDetailsService::usuariosCacheStats);
+            registrarCache(registry, "usuarios.desconhecidos", userDetailsService,
+                    AppUserDetailsService::usuariosDesconhecidosCacheStats);
+        };
+    }
+
+    // O Micrometer guarda referência fraca ao objeto medido: o dono do cache (um bean), não um lambda
+    private static <T> void registrarCache(MeterRegistry registry, String nome, T dono, Function<T, CacheStats> stats) {
+        Tags tags = Tags.of("cache", nome);
+        FunctionCounter.builder("cache.gets", dono, d -> stats.apply(d).hitCount())
+                .tags(tags).tag("result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", dono, d -> stats.apply(d).missCount())
+                .tags(tags).tag("result", "miss").register(registry);
+        FunctionCounter.builder("cache.evictions", dono, d -> stats.apply(d).evictionCount())
+                .tags(tags).register(registry);
+    }
+
+    // Pool do hash de senhas: fila, threads ativas e tarefas concluídas
+    @Bean
+    public MeterBinder passwordHashMetrics(PasswordEncoder passwordEncoder) {
+        return registry -> {
+            if (passwordEncoder instanceof BoundedPasswordEncoder bounded) {
+                new ExecutorServiceMetrics(bounded.getExecutor(), "password-hash", Tags.empty()).bindTo(registry);
+            }
+        };
+    }
+
+    // Bulkheads (um por pool) e o roteamento primário/réplica; os pools podem não ser candidatos a
+    // injeção (ReplicaDataSourceConfig), então são procurados direto na bean factory
+    @Bean
+    public MeterBinder dataSourceMetrics(ListableBeanFactory beanFactory) {
+        return registry -> beanFactory.getBeansOfType(DataSource.class).forEach((nome, dataSource) -> {
+            if (dataSource instanceof BulkheadDataSource bulkhead) {
+                Tags tags = Tags.of("pool", nome);
+                Gauge.builder("clientes.datasource.bulkhead.capacity", bulkhead, BulkheadDataSource::getCapacidade)
+                        .tags(tags).register(registry);
+                Gauge.builder("clientes.datasource.bulkhead.active", bulkhead, BulkheadDataSource::getEmUso)
+                        .tags(tags).register(registry);
+                Gauge.builder("clientes.datasource.bulkhead.pending", bulkhead, BulkheadDataSource::getAguardando)
+                        .tags(tags).register(registry);
+            } else if (dataSource instanceof ReplicaRoutingDataSource roteador) {
+                FunctionCounter.builder("clientes.datasource.routing", roteador, ReplicaRoutingDataSource::getConexoesReplica)
+                        .tag("target", "replica").register(registry);
+                FunctionCounter.builder("clientes.datasource.routing", roteador, ReplicaRoutingDataSource::getLeiturasNoPrimario)
+                        .tag("target", "primary-read-your-writes").register(registry);
+            }
+        });
+    }
+
+    @Bean
+    public MeterBinder virtualThreadPinningMetrics(VirtualThreadPinningMonitor monitor) {
+        return registry -> FunctionCounter.builder("jvm.threads.virtual.pinned.logged", monitor, VirtualThreadPinningMonitor::getEventos)
+                .description("Virtual threads presas à carrier acima do limiar configurado")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder searchIndexMetrics(ClienteSearchIndex searchIndex) {
+        return registry -> {
+            Gauge.builder("clientes.search.index.documents", searchIndex, i -> i.stats().documentos()).register(registry);
+            Gauge.builder("clientes.search.index.terms", searchIndex, i -> i.stats().termos()).register(registry);
+            FunctionCounter.builder("clientes.search.queries", searchIndex, i -> i.stats().consultas()).register(registry);
+            Gauge.builder("clientes.search.index.rebuild.duration", searchIndex, i -> i.stats().duracaoReconstrucaoMs())
+                    .baseUnit("milliseconds").register(registry);
+        };
+    }
+
+    // Filtros de unicidade (CPF, email): tamanho, ocupação, taxa de falsos positivos esperada e as respostas dadas.
+    // Falsos positivos observados / (absent + possible) dá a taxa real nas importações
+    @Bean
+    public MeterBinder uniquenessFilterMetrics(ClienteUnicidadeFiltro filtro) {
+        return registry -> {
+            for (ClienteUnicidadeFiltro.Chave chave : ClienteUnicidadeFiltro.Chave.values()) {
+                Tags tags = Tags.of("key", chave.name().toLowerCase(Locale.ROOT));
+                Gauge.builder("clientes.uniqueness.filter.size", filtro, f -> f.tamanhoBytes(chave))
+                        .tags(tags).baseUnit("bytes").register(registry);
+                Gauge.builder("clientes.uniqueness.filter.entries", filtro, f -> f.elementos(chave))
+                        .tags(tags).register(registry);
+                Gauge.builder("clientes.uniqueness.filter.expected.fpp", filtro, f -> f.fppEstimada(chave))
+                        .tags(tags).register(registry);
+                FunctionCounter.builder("clientes.uniqueness.filter.checks", filtro, f -> f.ausentes(chave))
+                        .tags(tags).tag("result", "absent").register(registry);
+                FunctionCounter.builder("clientes.uniqueness.filter.checks", filtro, f -> f.possiveis(chave))
+                        .tags(tags).tag("result", "possible").register(registry);
+                FunctionCounter.builder("clientes.uniqueness.filter.false.positives", filtro, f -> f.falsosPositivos(chave))
+                        .tags(tags).register(registry);
+            }
+            Gauge.builder("clientes.uniqueness.filter.rebuild.duration", filtro, ClienteUnicidadeFiltro::getDuracaoReconstrucaoMs)
+                    .baseUnit("milliseconds").register(registry);
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.neoapp.config;
+
+import com.neoapp.datasource.ReadYourWrites;
+import com.neoapp.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// Com clientes.datasource.replica.enabled=true há dois pools: o primário (spring.datasource.*) e a
+// réplica (clientes.datasource.replica.*). O DataSource usado pela aplicação (JPA, JdbcTemplate, Flyway)
+// é o ReplicaRoutingDataSource; os pools só são injetados por nome.
+@Configuration
+@ConditionalOnProperty(name = "clientes.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("clientes.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("clientes.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites(@Value("${clientes.datasource.replica.read-your-writes-window:PT2S}") Duration janela,
+                                         @Value("${clientes.datasource.replica.read-your-writes-max-users:100000}") long maxUsuarios) {
+        return new ReadYourWrites(janela, maxUsuarios);
+    }
+
+    @Bean
+    @Primary
+    public ReplicaRoutingDataSource dataSource(@Qualifier("primaryDataSource") DataSource primario,
+                                               @Qualifier("replicaDataSource") DataSource replica,
+                                               ReadYourWrites readYourWrites) {
+        return new ReplicaRoutingDataSource(primario, replica, readYourWrites);
+    }
+}
@@ -0,0 +1,72 @@
+package com.neoapp.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+// Registra (via JFR, no próprio processo) toda virtual thread que ficou presa à carrier thread
+// por mais que `threshold` — tipicamente I/O dentro de synchronized (ex.: driver H2).
+// Equivale a -Djdk.tracePinnedThreads=short, mas com limiar e sem reiniciar a aplicação.
+@Component
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final int FRAMES_NO_LOG = 8;
+
+    private final boolean habilitado;
+    private final Duration threshold;
+    private final LongAdder eventos = new LongAdder();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                       @Value("${clientes.virtual-threads.pinning-log.enabled:true}") boolean habilitado,
+                                       @Value("${clientes.virtual-threads.pinning-log.threshold:20ms}") Duration threshold) {
+        this.habilitado = virtualThreads && habilitado;
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    void iniciar() {
+        if (!habilitado) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::registrar);
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    void parar() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    public long getEventos() {
+        return eventos.sum();
+    }
+
+    private void registrar(RecordedEvent evento) {
+        eventos.increment();
+        if (log.isWarnEnabled()) {
+            List<RecordedFrame> frames = evento.getStackTrace() == null ? List.of() : evento.getStackTrace().getFrames();
+            String pilha = frames.stream()
+                    .limit(FRAMES_NO_LOG)
+                    .map(f -> f.getMethod().getType().getName() + "." + f.getMethod().getName() + ":" + f.getLineNumber())
+                    .collect(Collectors.joining(" <- "));
+            log.warn("Virtual thread fixada na carrier por {} ms: {}", evento.getDuration().toMillis(), pilha);
+        }
+    }
+}
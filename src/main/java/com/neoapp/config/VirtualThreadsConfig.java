@@ -0,0 +1,39 @@
+package com.neoapp.config;
+
+import com.neoapp.datasource.BulkheadDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+// spring.threads.virtual.enabled=true põe Tomcat, @Async e agendamentos em virtual threads.
+// O limite de concorrência passa a ser o bulkhead na frente do pool de conexões (BulkheadDataSource).
+@Configuration
+public class VirtualThreadsConfig {
+
+    // Estático: BeanPostProcessor precisa existir antes dos demais beans de configuração.
+    // Um bulkhead por pool (primário e, se houver, réplica), nunca nos DataSources que só roteiam
+    @Bean
+    public static BeanPostProcessor dataSourceBulkhead(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource pool)
+                        || !environment.getProperty("clientes.datasource.bulkhead.enabled", Boolean.class, false)) {
+                    return bean;
+                }
+                // 0 (padrão): o bulkhead acompanha o tamanho de cada pool
+                int capacidade = environment.getProperty("clientes.datasource.bulkhead.max-concurrent", Integer.class, 0);
+                if (capacidade <= 0) {
+                    capacidade = pool.getMaximumPoolSize();
+                }
+                Duration esperaMaxima = environment.getProperty("clientes.datasource.bulkhead.max-wait", Duration.class,
+                        Duration.ofSeconds(2));
+                return new BulkheadDataSource(pool, capacidade, esperaMaxima);
+            }
+        };
+    }
+}
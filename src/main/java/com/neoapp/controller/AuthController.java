@@ -2,18 +2,17 @@ package com.neoapp.controller;
 
 import com.neoapp.dto.AuthRequestDTO;
 import com.neoapp.dto.AuthResponseDTO;
+import com.neoapp.dto.RefreshTokenRequestDTO;
 import com.neoapp.dto.RegisterRequestDTO;
 import com.neoapp.dto.UsuarioResponseDTO;
 import com.neoapp.exception.ApiResponse;
-import com.neoapp.security.JwtUtil;
+import com.neoapp.service.AuthService;
 import com.neoapp.service.UsuarioService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -23,24 +22,22 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/auth")
 public class AuthController {
 
-    private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
-    private final JwtUtil jwtUtil;
+    private final AuthService authService;
     private final UsuarioService usuarioService;
 
-    public AuthController(AuthenticationManager authenticationManager, UserDetailsService userDetailsService, JwtUtil jwtUtil, UsuarioService usuarioService) {
-        this.authenticationManager = authenticationManager;
-        this.userDetailsService = userDetailsService;
-        this.jwtUtil = jwtUtil;
+    public AuthController(AuthService authService, UsuarioService usuarioService) {
+        this.authService = authService;
         this.usuarioService = usuarioService;
     }
 
     @PostMapping("/login")
     public ResponseEntity<AuthResponseDTO> createAuthenticationToken(@RequestBody @Valid AuthRequestDTO authRequest) {
-        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(authRequest.username(), authRequest.password()));
-        final UserDetails userDetails = userDetailsService.loadUserByUsername(authRequest.username());
-        final String jwt = jwtUtil.generateToken(userDetails);
-        return ResponseEntity.ok(new AuthResponseDTO(jwt));
+        return ResponseEntity.ok(authService.login(authRequest));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponseDTO> refreshToken(@RequestBody @Valid RefreshTokenRequestDTO refreshRequest) {
+        return ResponseEntity.ok(authService.refresh(refreshRequest));
     }
 
     @PostMapping("/register")
@@ -48,4 +45,10 @@ public class AuthController {
         UsuarioResponseDTO novoUsuario = usuarioService.registrarNovoUsuario(registerRequest);
         return new ResponseEntity<>(ApiResponse.success(novoUsuario), HttpStatus.CREATED);
     }
-}
\ No newline at end of file
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal UserDetails usuario) {
+        usuarioService.revogarTokens(usuario.getUsername());
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
@@ -1,9 +1,19 @@
 package com.neoapp.controller;
 
+import com.neoapp.dto.ClienteImportResultDTO;
+import com.neoapp.dto.ClientePatchDTO;
 import com.neoapp.dto.ClienteRequestDTO;
 import com.neoapp.dto.ClienteResponseDTO;
+import com.neoapp.dto.CursorPageDTO;
+import com.neoapp.dto.DocumentoValidacaoResultDTO;
 import com.neoapp.exception.ApiResponse;
+import com.neoapp.search.ModoBusca;
+import com.neoapp.service.ClienteExportService;
+import com.neoapp.service.ClienteImportService;
 import com.neoapp.service.ClienteService;
+import com.neoapp.service.DocumentoValidacaoService;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springdoc.core.converters.models.PageableAsQueryParam;
@@ -11,17 +21,39 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/clientes")
 public class ClienteController {
 
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+    // Schema gerado pelo springdoc para ApiResponse<ClienteResponseDTO> (POST/PUT/PATCH)
+    private static final String CLIENTE_SCHEMA = "#/components/schemas/ApiResponseClienteResponseDTO";
+
     private final ClienteService clienteService;
-    public ClienteController(ClienteService clienteService) {
+    private final ClienteImportService clienteImportService;
+    private final ClienteExportService clienteExportService;
+    private final ClienteJsonMemo clienteJsonMemo;
+    private final DocumentoValidacaoService documentoValidacaoService;
+    public ClienteController(ClienteService clienteService, ClienteImportService clienteImportService,
+                             ClienteExportService clienteExportService, ClienteJsonMemo clienteJsonMemo,
+                             DocumentoValidacaoService documentoValidacaoService) {
         this.clienteService = clienteService;
+        this.clienteImportService = clienteImportService;
+        this.clienteExportService = clienteExportService;
+        this.clienteJsonMemo = clienteJsonMemo;
+        this.documentoValidacaoService = documentoValidacaoService;
     }
 
     @PostMapping
@@ -32,11 +64,88 @@ public class ClienteController {
                 .body(ApiResponse.success(response));
     }
 
+    // Importação em massa: o corpo é lido em streaming e gravado em lotes; o relatório traz o resultado de cada linha
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<ClienteImportResultDTO>> importarJson(InputStream body) {
+        ClienteImportResultDTO response = clienteImportService.importarJson(body);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApiResponse.success(response));
+    }
+
+    @PostMapping(value = "/batch", consumes = APPLICATION_NDJSON)
+    public ResponseEntity<ApiResponse<ClienteImportResultDTO>> importarNdjson(InputStream body) {
+        ClienteImportResultDTO response = clienteImportService.importarNdjson(body);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApiResponse.success(response));
+    }
+
+    // Validação em lote de CPF/CNPJ (com ou sem máscara), sem consultar o banco: array JSON de strings
+    @PostMapping(value = "/cpf/validar", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<DocumentoValidacaoResultDTO>> validarDocumentosJson(InputStream body) {
+        DocumentoValidacaoResultDTO response = documentoValidacaoService.validarJson(body);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApiResponse.success(response));
+    }
+
+    // Um documento por linha
+    @PostMapping(value = "/cpf/validar", consumes = {APPLICATION_NDJSON, MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<ApiResponse<DocumentoValidacaoResultDTO>> validarDocumentosLinhas(InputStream body) {
+        DocumentoValidacaoResultDTO response = documentoValidacaoService.validarLinhas(body);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApiResponse.success(response));
+    }
+
+    // Exportação completa em streaming (csv | ndjson), substitui percorrer todas as páginas com OFFSET
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @RequestParam(defaultValue = "csv") String formato,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+
+        ClienteExportService.Formato tipo = ClienteExportService.Formato.of(formato);
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                try (GZIPOutputStream compactado = new GZIPOutputStream(out, 8192)) {
+                    clienteExportService.exportar(tipo, compactado);
+                }
+            } else {
+                clienteExportService.exportar(tipo, out);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity
+                .status(HttpStatus.OK)
+                .contentType(MediaType.parseMediaType(tipo.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("clientes." + tipo.getExtensao())
+                        .build()
+                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<ApiResponse<ClienteResponseDTO>> atualizar(@PathVariable Long id, @RequestBody @Valid ClienteRequestDTO dto) {
-        ClienteResponseDTO response = clienteService.atualizarCliente(id, dto);
+    public ResponseEntity<ApiResponse<ClienteResponseDTO>> atualizar(@PathVariable Long id, @RequestBody @Valid ClienteRequestDTO dto,
+                                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ClienteResponseDTO response = clienteService.atualizarCliente(id, dto, ClienteEtags.versaoEsperada(ifMatch, id));
         return ResponseEntity
                 .status(HttpStatus.OK)
+                .eTag(ClienteEtags.etag(response))
+                .body(ApiResponse.success(response));
+    }
+
+    // JSON Merge Patch: só os campos enviados são validados e gravados
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ApiResponse<ClienteResponseDTO>> atualizarParcialmente(@PathVariable Long id, @RequestBody ClientePatchDTO patch,
+                                                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ClienteResponseDTO response = clienteService.atualizarParcialmente(id, patch, ClienteEtags.versaoEsperada(ifMatch, id));
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .eTag(ClienteEtags.etag(response))
                 .body(ApiResponse.success(response));
     }
 
@@ -46,29 +155,66 @@ public class ClienteController {
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
 
+    // Respostas com ETag: If-None-Match igual devolve 304 sem corpo.
+    // O corpo pode ser o JSON já serializado do ClienteJsonMemo (ApiResponse<Object>); o schema documentado é o do DTO
     @GetMapping("/cpf/{cpf}")
-    public ResponseEntity<ApiResponse<ClienteResponseDTO>> buscarPorCpf(@PathVariable String cpf) {
-        ClienteResponseDTO response = clienteService.buscarPorCpf(cpf);
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(ApiResponse.success(response));
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200",
+            content = @Content(schema = @Schema(ref = CLIENTE_SCHEMA)))
+    public ResponseEntity<ApiResponse<Object>> buscarPorCpf(@PathVariable String cpf, WebRequest request) {
+        return respostaComEtag(clienteService.buscarPorCpf(cpf), request);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<ClienteResponseDTO>> buscarPorId(@PathVariable Long id) {
-        ClienteResponseDTO response = clienteService.buscarPorId(id);
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200",
+            content = @Content(schema = @Schema(ref = CLIENTE_SCHEMA)))
+    public ResponseEntity<ApiResponse<Object>> buscarPorId(@PathVariable Long id, WebRequest request) {
+        return respostaComEtag(clienteService.buscarPorId(id), request);
+    }
+
+    private ResponseEntity<ApiResponse<Object>> respostaComEtag(ClienteResponseDTO cliente, WebRequest request) {
+        String etag = ClienteEtags.etag(cliente);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(ApiResponse.success(response));
+                .eTag(etag)
+                .body(ApiResponse.success(clienteJsonMemo.corpo(cliente)));
     }
 
+    // modo: contem (padrão) | prefixo | fuzzy (ordenado por semelhança, ignora o sort)
     @GetMapping("/nome")
     @PageableAsQueryParam
     public ResponseEntity<ApiResponse<Page<ClienteResponseDTO>>> buscarPorNome(
             @RequestParam String nome,
+            @RequestParam(defaultValue = "contem") String modo,
             @ParameterObject @PageableDefault(sort = "nome", direction = Sort.Direction.ASC) Pageable pageable) {
 
-        Page<ClienteResponseDTO> response = clienteService.listarPorNome(nome, pageable);
+        Page<ClienteResponseDTO> response = clienteService.listarPorNome(nome, ModoBusca.of(modo), pageable);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApiResponse.success(response));
+    }
+
+    // Paginação por cursor: `after` é o `nextCursor` da página anterior; não calcula total de registros
+    @GetMapping("/nome/cursor")
+    public ResponseEntity<ApiResponse<CursorPageDTO<ClienteResponseDTO>>> buscarPorNomeCursor(
+            @RequestParam String nome,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+
+        CursorPageDTO<ClienteResponseDTO> response = clienteService.listarPorNome(nome, after, size);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApiResponse.success(response));
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPageDTO<ClienteResponseDTO>>> listarTodosCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+
+        CursorPageDTO<ClienteResponseDTO> response = clienteService.listarClientes(after, size);
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(ApiResponse.success(response));
@@ -0,0 +1,45 @@
+package com.neoapp.controller;
+
+import com.neoapp.dto.ClienteResponseDTO;
+import com.neoapp.exception.ErrorCode;
+import com.neoapp.exception.PreconditionFailedException;
+import org.springframework.http.ETag;
+
+// ETag das representações de cliente e leitura do If-Match de PUT/PATCH
+public final class ClienteEtags {
+
+    private ClienteEtags() {
+    }
+
+    // Versão + idade: o corpo só muda quando o cliente é gravado ou faz aniversário
+    public static String etag(ClienteResponseDTO cliente) {
+        long versao = cliente.version() == null ? 0 : cliente.version();
+        return "\"" + cliente.id() + "-" + versao + "-" + cliente.idade() + "\"";
+    }
+
+    // Versão pedida num If-Match (comparação forte); null quando ausente ou "*".
+    // Tags fracas, de outro cliente ou fora do formato nunca casam com a representação atual.
+    public static Long versaoEsperada(String ifMatch, Long id) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        String prefixo = id + "-";
+        for (ETag tag : ETag.parse(ifMatch)) {
+            if (tag.isWildcard()) {
+                return null;
+            }
+            if (tag.weak() || !tag.tag().startsWith(prefixo)) {
+                continue;
+            }
+            String[] partes = tag.tag().split("-");
+            if (partes.length == 3) {
+                try {
+                    return Long.parseLong(partes[1]);
+                } catch (NumberFormatException e) {
+                    break;
+                }
+            }
+        }
+        throw new PreconditionFailedException(ErrorCode.CLIENTE_VERSION_MISMATCH);
+    }
+}
@@ -0,0 +1,40 @@
+package com.neoapp.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.neoapp.dto.ClienteResponseDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Corpo `data` de GET /clientes/{id} e /clientes/cpf/{cpf} já serializado, por instância do DTO.
+// Um acerto no ClienteCache devolve sempre o mesmo objeto, então o JSON é gerado uma vez por entrada do cache.
+// Chaves fracas (comparadas por identidade): o JSON some junto com o DTO quando o cache o invalida ou expira.
+@Component
+class ClienteJsonMemo {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<ClienteResponseDTO, RawValue> porInstancia;
+
+    ClienteJsonMemo(ObjectMapper objectMapper,
+                    @Value("${clientes.cache.json:true}") boolean habilitado,
+                    @Value("${clientes.cache.max-size:10000}") long maxSize) {
+        this.objectMapper = objectMapper;
+        this.porInstancia = habilitado ? Caffeine.newBuilder().weakKeys().maximumSize(maxSize).build() : null;
+    }
+
+    // RawValue com o JSON pronto (o Jackson só escreve o envelope) ou, desabilitado, o próprio DTO
+    Object corpo(ClienteResponseDTO cliente) {
+        return porInstancia == null ? cliente : porInstancia.get(cliente, this::serializar);
+    }
+
+    private RawValue serializar(ClienteResponseDTO cliente) {
+        try {
+            return new RawValue(objectMapper.writeValueAsString(cliente));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar cliente " + cliente.id(), e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.neoapp.controller;
+
+import com.neoapp.dto.ClienteResponseDTO;
+import com.neoapp.dto.SearchIndexStatsDTO;
+import com.neoapp.exception.ApiResponse;
+import com.neoapp.search.ClienteSearchIndex;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// Type-ahead sobre o índice em memória (nome e email); habilitado por clientes.search-index.enabled
+@RestController
+@RequestMapping("/clientes/search")
+public class ClienteSearchController {
+
+    private final ClienteSearchIndex searchIndex;
+
+    public ClienteSearchController(ClienteSearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    // Resultados ordenados por relevância; o sort do Pageable é ignorado
+    @GetMapping
+    public ResponseEntity<ApiResponse<Page<ClienteResponseDTO>>> buscar(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @ParameterObject @PageableDefault(size = 10) Pageable pageable) {
+
+        Page<ClienteResponseDTO> response = searchIndex.buscar(q, fuzzy, pageable);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApiResponse.success(response));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<SearchIndexStatsDTO>> reconstruir() {
+        SearchIndexStatsDTO response = searchIndex.reconstruir();
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApiResponse.success(response));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<SearchIndexStatsDTO>> stats() {
+        SearchIndexStatsDTO response = searchIndex.stats();
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApiResponse.success(response));
+    }
+}
@@ -0,0 +1,131 @@
+package com.neoapp.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Limita quantas threads podem estar com (ou esperando por) uma conexão do pool.
+// Com virtual threads não há mais o teto natural dos workers do Tomcat: sem este limite, milhares
+// de requisições ficariam disputando as poucas conexões do Hikari. A fila é justa (FIFO) e a espera
+// tem prazo curto; quem não consegue vaga recebe SQLTransientConnectionException (429 para o cliente).
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private final Semaphore permissoes;
+    private final int capacidade;
+    private final long esperaMaximaNanos;
+
+    public BulkheadDataSource(DataSource delegate, int capacidade, Duration esperaMaxima) {
+        super(delegate);
+        this.permissoes = new Semaphore(capacidade, true);
+        this.capacidade = capacidade;
+        this.esperaMaximaNanos = esperaMaxima.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        adquirir();
+        return liberarAoFechar(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        adquirir();
+        return liberarAoFechar(() -> super.getConnection(username, password));
+    }
+
+    public int getCapacidade() {
+        return capacidade;
+    }
+
+    public int getEmUso() {
+        return capacidade - permissoes.availablePermits();
+    }
+
+    public int getAguardando() {
+        return permissoes.getQueueLength();
+    }
+
+    private void adquirir() throws SQLException {
+        try {
+            if (!permissoes.tryAcquire(esperaMaximaNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException("Bulkhead do DataSource esgotado (" + capacidade + " conexões em uso)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrompido aguardando conexão", e);
+        }
+    }
+
+    private interface Abertura {
+        Connection abrir() throws SQLException;
+    }
+
+    private Connection liberarAoFechar(Abertura abertura) throws SQLException {
+        Connection conexao;
+        try {
+            conexao = abertura.abrir();
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConexaoLimitada(conexao));
+    }
+
+    // Devolve a permissão no primeiro close(); os demais métodos vão direto para a conexão do pool
+    private final class ConexaoLimitada implements InvocationHandler {
+
+        private final Connection conexao;
+        private final AtomicBoolean fechada = new AtomicBoolean();
+
+        private ConexaoLimitada(Connection conexao) {
+            this.conexao = conexao;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    try {
+                        conexao.close();
+                    } finally {
+                        if (fechada.compareAndSet(false, true)) {
+                            permissoes.release();
+                        }
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return fechada.get() || conexao.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "BulkheadDataSource[" + conexao + "]";
+                }
+                default -> {
+                    try {
+                        return method.invoke(conexao, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.neoapp.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.neoapp.service.ClienteEvent;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+// Lembra quem gravou há pouco: durante `janela` (o atraso máximo esperado da réplica) as leituras desse
+// usuário continuam no primário e enxergam a própria gravação. Só conta gravação de cliente confirmada
+// (ClienteEvent após o commit) feita por usuário autenticado; requisições anônimas sempre leem da réplica.
+public class ReadYourWrites {
+
+    private final Cache<String, Boolean> gravacoesRecentes;
+
+    public ReadYourWrites(Duration janela, long maxUsuarios) {
+        this.gravacoesRecentes = Caffeine.newBuilder()
+                .maximumSize(maxUsuarios)
+                .expireAfterWrite(janela)
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ClienteEvent evento) {
+        registrarGravacao();
+    }
+
+    public void registrarGravacao() {
+        String usuario = usuarioAtual();
+        if (usuario != null) {
+            gravacoesRecentes.put(usuario, Boolean.TRUE);
+        }
+    }
+
+    public boolean gravouRecentemente() {
+        String usuario = usuarioAtual();
+        return usuario != null && gravacoesRecentes.getIfPresent(usuario) != null;
+    }
+
+    private static String usuarioAtual() {
+        Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        if (autenticacao == null || !autenticacao.isAuthenticated() || autenticacao instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return autenticacao.getName();
+    }
+}
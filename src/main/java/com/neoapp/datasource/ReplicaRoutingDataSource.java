@@ -0,0 +1,43 @@
+package com.neoapp.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.LongAdder;
+
+// Transações @Transactional(readOnly = true) vão para a réplica; as demais, para o primário.
+// A conexão real só é obtida no primeiro comando SQL (LazyConnectionDataSourceProxy), quando o
+// Connection.setReadOnly(true) da transação já foi aplicado e decide o destino.
+// Depois de uma gravação de cliente confirmada, as leituras do mesmo usuário ficam no primário enquanto durar a janela do ReadYourWrites.
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy {
+
+    private final LongAdder conexoesReplica = new LongAdder();
+    private final LongAdder leiturasNoPrimario = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primario, DataSource replica, ReadYourWrites readYourWrites) {
+        super(primario);
+        setReadOnlyDataSource(new DelegatingDataSource(replica) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (readYourWrites.gravouRecentemente()) {
+                    leiturasNoPrimario.increment();
+                    return primario.getConnection();
+                }
+                conexoesReplica.increment();
+                return super.getConnection();
+            }
+        });
+    }
+
+    public long getConexoesReplica() {
+        return conexoesReplica.sum();
+    }
+
+    // Leituras somente-leitura desviadas para o primário pelo read-your-writes
+    public long getLeiturasNoPrimario() {
+        return leiturasNoPrimario.sum();
+    }
+}
@@ -1,4 +1,4 @@
 package com.neoapp.dto;
 
-public record AuthResponseDTO(String token) {
+public record AuthResponseDTO(String token, String refreshToken) {
 }
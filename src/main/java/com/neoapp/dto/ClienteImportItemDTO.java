@@ -0,0 +1,21 @@
+package com.neoapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ClienteImportItemDTO(
+        int linha,
+        boolean sucesso,
+        String cpf,
+        Long id,
+        String code,
+        String message
+) {
+    public static ClienteImportItemDTO inserido(int linha, String cpf, Long id) {
+        return new ClienteImportItemDTO(linha, true, cpf, id, null, null);
+    }
+
+    public static ClienteImportItemDTO rejeitado(int linha, String cpf, String code, String message) {
+        return new ClienteImportItemDTO(linha, false, cpf, null, code, message);
+    }
+}
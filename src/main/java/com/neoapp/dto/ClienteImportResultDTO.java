@@ -0,0 +1,11 @@
+package com.neoapp.dto;
+
+import java.util.List;
+
+public record ClienteImportResultDTO(
+        int total,
+        int inseridos,
+        int rejeitados,
+        List<ClienteImportItemDTO> itens
+) {
+}
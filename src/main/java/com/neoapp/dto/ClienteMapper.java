@@ -20,6 +20,7 @@ public interface ClienteMapper {
     @Mapping(target = "email", expression = "java(dto.email().trim())")
     @Mapping(target = "id", ignore = true) // Ignora o ID na criação
     @Mapping(target = "createdAt", ignore = true) // Ignora o createdAt na criação
+    @Mapping(target = "version", ignore = true)
     Cliente toEntity(ClienteRequestDTO dto);
 
     ClienteResponseDTO toDto(Cliente cliente);
@@ -29,5 +30,23 @@ public interface ClienteMapper {
     @Mapping(target = "email", expression = "java(dto.email().trim())")
     @Mapping(target = "id", ignore = true) // Nunca atualize o ID da entidade
     @Mapping(target = "createdAt", ignore = true) // O createdAt também não deve ser alterado
+    @Mapping(target = "version", ignore = true)
     void updateClienteFromDto(ClienteRequestDTO dto, @MappingTarget Cliente cliente);
+
+    // PATCH: copia só os campos presentes no merge patch; os demais ficam como estão
+    default void patchCliente(ClientePatchDTO patch, Cliente cliente) {
+        ClienteRequestDTO valores = patch.valores();
+        if (patch.contem("cpf")) {
+            cliente.setCpf(valores.cpf());
+        }
+        if (patch.contem("nome")) {
+            cliente.setNome(valores.nome());
+        }
+        if (patch.contem("dataNascimento")) {
+            cliente.setDataNascimento(valores.dataNascimento());
+        }
+        if (patch.contem("email")) {
+            cliente.setEmail(valores.email());
+        }
+    }
 }
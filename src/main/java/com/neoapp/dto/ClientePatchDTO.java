@@ -0,0 +1,63 @@
+package com.neoapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// Corpo de PATCH /clientes/{id} (JSON Merge Patch, RFC 7396): só os campos presentes são alterados.
+// Um campo presente com null pede a remoção do valor, o que a validação de ClienteRequestDTO recusa.
+public record ClientePatchDTO(Set<String> campos, ClienteRequestDTO valores) {
+
+    public static final Set<String> CAMPOS = Set.of("cpf", "nome", "dataNascimento", "email");
+
+    public ClientePatchDTO {
+        campos = Collections.unmodifiableSet(campos);
+    }
+
+    // Campos desconhecidos ou de tipo errado viram erro de desserialização (400 BAD_FORMAT_JSON)
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static ClientePatchDTO de(ObjectNode patch) {
+        Set<String> campos = new LinkedHashSet<>();
+        patch.fieldNames().forEachRemaining(campo -> {
+            if (!CAMPOS.contains(campo)) {
+                throw new IllegalArgumentException("Campo desconhecido: " + campo);
+            }
+            campos.add(campo);
+        });
+        return new ClientePatchDTO(campos, new ClienteRequestDTO(
+                texto(patch, "cpf"),
+                texto(patch, "nome"),
+                data(patch, "dataNascimento"),
+                texto(patch, "email")));
+    }
+
+    public boolean contem(String campo) {
+        return campos.contains(campo);
+    }
+
+    private static String texto(ObjectNode patch, String campo) {
+        JsonNode valor = patch.get(campo);
+        if (valor == null || valor.isNull()) {
+            return null;
+        }
+        if (!valor.isTextual()) {
+            throw new IllegalArgumentException("Campo " + campo + " deve ser texto");
+        }
+        return valor.textValue().trim();
+    }
+
+    private static LocalDate data(ObjectNode patch, String campo) {
+        String valor = texto(patch, campo);
+        try {
+            return valor == null ? null : LocalDate.parse(valor);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Campo " + campo + " deve ser uma data ISO-8601", e);
+        }
+    }
+}
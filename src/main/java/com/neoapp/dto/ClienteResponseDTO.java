@@ -1,6 +1,7 @@
 package com.neoapp.dto;
 
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.time.LocalDate;
@@ -13,13 +14,19 @@ public record ClienteResponseDTO(
         String nome,
         LocalDate dataNascimento,
         String email,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        // Não vai no corpo: é exposta pelo ETag
+        @JsonIgnore
+        Long version
 
 )   {
+        public ClienteResponseDTO(Long id, String cpf, String nome, LocalDate dataNascimento, String email, LocalDateTime createdAt) {
+            this(id, cpf, nome, dataNascimento, email, createdAt, null);
+        }
+
         @JsonProperty
         public Integer idade() {
             return dataNascimento == null ? null : Period.between(this.dataNascimento, LocalDate.now()).getYears();
     }
     }
 
-
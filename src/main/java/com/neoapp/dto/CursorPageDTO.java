@@ -0,0 +1,12 @@
+package com.neoapp.dto;
+
+import java.util.List;
+
+// Página por cursor: sem total de registros; `nextCursor` é nulo na última página
+public record CursorPageDTO<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
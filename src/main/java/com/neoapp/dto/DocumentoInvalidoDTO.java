@@ -0,0 +1,7 @@
+package com.neoapp.dto;
+
+public record DocumentoInvalidoDTO(
+        long posicao,
+        String valor
+) {
+}
@@ -0,0 +1,13 @@
+package com.neoapp.dto;
+
+import java.util.List;
+
+// Resumo da validação em lote; só os primeiros inválidos são listados (posição = índice no array ou linha - 1)
+public record DocumentoValidacaoResultDTO(
+        long total,
+        long cpfs,
+        long cnpjs,
+        long invalidos,
+        List<DocumentoInvalidoDTO> primeirosInvalidos
+) {
+}
@@ -0,0 +1,8 @@
+package com.neoapp.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequestDTO(
+        @NotBlank(message = "O campo 'refreshToken' não pode estar em branco")
+        String refreshToken) {
+}
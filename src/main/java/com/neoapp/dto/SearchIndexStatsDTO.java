@@ -0,0 +1,16 @@
+package com.neoapp.dto;
+
+import java.time.LocalDateTime;
+
+public record SearchIndexStatsDTO(
+        boolean habilitado,
+        int documentos,
+        int termos,
+        long postings,
+        long consultas,
+        double latenciaMediaMicros,
+        long latenciaMaximaMicros,
+        LocalDateTime ultimaReconstrucao,
+        long duracaoReconstrucaoMs
+) {
+}
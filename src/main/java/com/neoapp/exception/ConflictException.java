@@ -0,0 +1,12 @@
+package com.neoapp.exception;
+
+public class ConflictException extends RuntimeException {
+    private final ErrorCode errorCode;
+    public ConflictException(ErrorCode errorCode) {
+        super(errorCode.getMensagem());
+        this.errorCode = errorCode;
+    }
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
@@ -7,13 +7,19 @@ public enum ErrorCode {
     EMAIL_ALREADY_EXISTS("Já existe cadastro com este E-mail."),
     USUARIO_ALREADY_EXISTS("Já existe cadastro com este nome."),
     USUARIO_NOT_FOUND("Usuário não encontrado."),
+    CLIENTE_UPDATE_CONFLICT("Cliente alterado por outra requisição. Recarregue e tente novamente."),
+    CLIENTE_VERSION_MISMATCH("A versão informada em If-Match não é a versão atual do cliente."),
+    SEARCH_INDEX_REBUILD_IN_PROGRESS("Reconstrução do índice de busca já em andamento."),
 
     // REGRA DE NEGOCIO
     VALIDATION_ERROR("Erro de validação."),
     UNAUTHORIZED_ACTION("Ação não autorizada."),
     INVALID_INPUT("Erro na validação dos campos"),
     BAD_FORMAT_JSON("JSON inválido ou malformado"),
+    INVALID_CURSOR("Cursor de paginação inválido."),
     UNEXPECTED_ERROR("Erro inesperado"),
+    SEARCH_INDEX_DISABLED("Índice de busca em memória desabilitado."),
+    TOO_MANY_REQUESTS("Servidor ocupado. Tente novamente em instantes."),
 
     // AUTENTICAÇÃO
     INVALID_CREDENTIALS("Credenciais inválidas. Verifique usuário e senha."); // <- novo
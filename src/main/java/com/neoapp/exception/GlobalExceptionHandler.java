@@ -1,21 +1,42 @@
 package com.neoapp.exception;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    // Um contador por ErrorCode (clientes.errors{code=...}), registrado já na subida
+    private final Map<ErrorCode, Counter> erros = new EnumMap<>(ErrorCode.class);
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        for (ErrorCode code : ErrorCode.values()) {
+            erros.put(code, Counter.builder("clientes.errors")
+                    .description("Respostas de erro por ErrorCode")
+                    .tag("code", code.name())
+                    .register(meterRegistry));
+        }
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Object>> handleMethodArgumentNotValidException(MethodArgumentNotValidException ex){
         Map<String, String> errors = new HashMap<>();
@@ -26,60 +47,86 @@ public class GlobalExceptionHandler {
         });
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
-                .body(ApiResponse.error(
-                        ErrorCode.VALIDATION_ERROR.name(),
-                        ErrorCode.VALIDATION_ERROR.getMensagem(),
-                        errors
-                ));
+                .body(erro(ErrorCode.VALIDATION_ERROR, errors));
+    }
+
+    // Validação manual (ex.: campos de um PATCH), no mesmo formato do @Valid
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ApiResponse<Object>> handleConstraintViolationException(ConstraintViolationException ex){
+        Map<String, String> errors = new HashMap<>();
+        ex.getConstraintViolations().forEach(violation ->
+                errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(erro(ErrorCode.VALIDATION_ERROR, errors));
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Object>> handleException(Exception ex){
         return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(ApiResponse.error(
-                        ErrorCode.UNEXPECTED_ERROR.name(),
-                        ErrorCode.UNEXPECTED_ERROR.getMensagem()
-                ));
+                .body(erro(ErrorCode.UNEXPECTED_ERROR));
     }
 
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ApiResponse<Object>> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex){
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
-                .body(ApiResponse.error(
-                        ErrorCode.BAD_FORMAT_JSON.name(),
-                        ErrorCode.BAD_FORMAT_JSON.getMensagem()
-                ));
+                .body(erro(ErrorCode.BAD_FORMAT_JSON));
     }
 
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ApiResponse<Object>> handleResourceNotFoundException(ResourceNotFoundException ex){
         return ResponseEntity
                 .status(HttpStatus.NOT_FOUND)
-                .body(ApiResponse.error(
-                        ex.getErrorCode().name(),
-                        ex.getErrorCode().getMensagem()
-                ));
+                .body(erro(ex.getErrorCode()));
     }
 
     @ExceptionHandler(BusinessRuleException.class)
     public ResponseEntity<ApiResponse<Object>> handleBusinessRuleException(BusinessRuleException ex){
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
-                .body(ApiResponse.error(
-                        ex.getErrorCode().name(),
-                        ex.getErrorCode().getMensagem()
-                ));
+                .body(erro(ex.getErrorCode()));
+    }
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ApiResponse<Object>> handleConflictException(ConflictException ex) {
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(erro(ex.getErrorCode()));
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiResponse<Object>> handlePreconditionFailedException(PreconditionFailedException ex) {
+        return ResponseEntity
+                .status(HttpStatus.PRECONDITION_FAILED)
+                .body(erro(ex.getErrorCode()));
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<Object>> handleTooManyRequestsException(TooManyRequestsException ex) {
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(erro(ex.getErrorCode()));
+    }
+
+    // Pool de conexões (ou o bulkhead na frente dele) esgotado: mesma resposta de sobrecarga do hash de senhas
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ApiResponse<Object>> handleConnectionUnavailable(Exception ex) {
+        if (!(NestedExceptionUtils.getMostSpecificCause(ex) instanceof SQLTransientConnectionException)) {
+            return handleException(ex);
+        }
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(erro(ErrorCode.TOO_MANY_REQUESTS));
     }
 
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<ApiResponse<Object>> handleBadCredentials(BadCredentialsException ex) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                .body(ApiResponse.error(
-                        ErrorCode.INVALID_CREDENTIALS.name(),
-                        ErrorCode.INVALID_CREDENTIALS.getMensagem()
-                ));
+                .body(erro(ErrorCode.INVALID_CREDENTIALS));
 
     }
 
@@ -89,10 +136,15 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Object>> handleUsernameNotFoundException(UsernameNotFoundException ex) {
         return ResponseEntity
                 .status(HttpStatus.UNAUTHORIZED)
-                .body(ApiResponse.error(
-                        ErrorCode.INVALID_CREDENTIALS.name(),
-                        ErrorCode.INVALID_CREDENTIALS.getMensagem()
-                ));
+                .body(erro(ErrorCode.INVALID_CREDENTIALS));
     }
 
+    private ApiResponse<Object> erro(ErrorCode code) {
+        return erro(code, null);
+    }
+
+    private ApiResponse<Object> erro(ErrorCode code, Object data) {
+        erros.get(code).increment();
+        return ApiResponse.error(code.name(), code.getMensagem(), data);
+    }
 }
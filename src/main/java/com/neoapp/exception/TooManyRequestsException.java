@@ -0,0 +1,12 @@
+package com.neoapp.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+    private final ErrorCode errorCode;
+    public TooManyRequestsException(ErrorCode errorCode) {
+        super(errorCode.getMensagem());
+        this.errorCode = errorCode;
+    }
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
@@ -1,35 +1,63 @@
 package com.neoapp.model;
 
+import com.neoapp.search.NomeNormalizer;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
 
+// UPDATE só com as colunas alteradas: um PATCH de email não reescreve (nem revalida) CPF e nome
+@DynamicUpdate
 @Entity
-@Table(name = "clients")
+@Table(name = "clients", uniqueConstraints = {
+        @UniqueConstraint(name = Cliente.UK_CPF, columnNames = "cpf"),
+        @UniqueConstraint(name = Cliente.UK_EMAIL, columnNames = "email")
+}, indexes = {
+        // Atende a ordenação e o predicado da paginação por cursor (nome, id)
+        @Index(name = "idx_clients_nome_id", columnList = "nome, cliente_id"),
+        // Busca por prefixo; no PostgreSQL a busca por trecho/fuzzy usa o índice GIN de trigramas
+        @Index(name = "idx_clients_nome_busca", columnList = "nome_busca, cliente_id")
+})
 public class Cliente {
 
+    // Nomes fixos para traduzir violações de unicidade em CPF_ALREADY_EXISTS / EMAIL_ALREADY_EXISTS
+    public static final String UK_CPF = "uk_clients_cpf";
+    public static final String UK_EMAIL = "uk_clients_email";
+
+    // Sequence com otimizador pooled: IDENTITY impede o Hibernate de agrupar inserts em lote (JDBC batch)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "clients_seq")
+    @SequenceGenerator(name = "clients_seq", sequenceName = "clients_seq", allocationSize = 50)
     @Column(name = "cliente_id", nullable = false, unique = true)
     private Long id;
 
-    @Column(name = "cpf", unique = true, length=11, nullable = false)
+    @Convert(converter = CpfConverter.class)
+    @Column(name = "cpf", nullable = false)
     private String cpf;
 
     @Column(name = "nome", nullable = false, length = 100)
     private String nome;
 
+    // Nome sem acentos, em minúsculas (NomeNormalizer); mantido a cada gravação e usado só nas buscas
+    @Column(name = "nome_busca", length = 100)
+    private String nomeBusca;
+
     @Column(name = "data_nascimento", nullable = false)
     private LocalDate dataNascimento;
 
-    @Column(name = "email", unique = true, length = 150, nullable = false)
+    @Column(name = "email", length = 150, nullable = false)
     private String email;
 
     private LocalDateTime createdAt;
 
+    // Incrementada a cada atualização; base dos ETags (e do controle de concorrência otimista)
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     public void setId(Long id) {
         this.id = id;
     }
@@ -66,6 +94,10 @@ public class Cliente {
         return nome;
     }
 
+    public String getNomeBusca() {
+        return nomeBusca;
+    }
+
     public LocalDate getDataNascimento() {
         return dataNascimento;
     }
@@ -78,6 +110,10 @@ public class Cliente {
         return email;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public Cliente() {}
     public Cliente(String cpf, String nome, LocalDate dataNascimento, String email) {
         this.cpf = cpf;
@@ -87,6 +123,12 @@ public class Cliente {
 
     }
 
+    @PrePersist
+    @PreUpdate
+    void atualizarNomeBusca() {
+        this.nomeBusca = NomeNormalizer.normalizar(nome);
+    }
+
     @Override
     public boolean equals(Object o) {
         if(this == o) return true;
@@ -0,0 +1,49 @@
+package com.neoapp.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// CPF gravado como BIGINT (índice único menor, comparação numérica); na entidade e na API continua
+// a string de 11 dígitos com zeros à esquerda
+@Converter
+public class CpfConverter implements AttributeConverter<String, Long> {
+
+    private static final int DIGITOS = 11;
+
+    // Um valor fora do formato (ex.: GET /clientes/cpf/123) vira -1, que ck_clients_cpf garante não existir:
+    // a busca simplesmente não encontra. Gravações já chegam validadas por @Cpf.
+    @Override
+    public Long convertToDatabaseColumn(String cpf) {
+        return cpf == null ? null : numero(cpf);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Long numero) {
+        return numero == null ? null : texto(numero);
+    }
+
+    // Valor numérico dos 11 dígitos; -1 se não for exatamente 11 dígitos (sem sinal, espaços ou máscara)
+    public static long numero(CharSequence cpf) {
+        if (cpf == null || cpf.length() != DIGITOS) {
+            return -1;
+        }
+        long numero = 0;
+        for (int i = 0; i < DIGITOS; i++) {
+            int digito = cpf.charAt(i) - '0';
+            if (digito < 0 || digito > 9) {
+                return -1;
+            }
+            numero = numero * 10 + digito;
+        }
+        return numero;
+    }
+
+    public static String texto(long numero) {
+        char[] digitos = new char[DIGITOS];
+        for (int i = DIGITOS - 1; i >= 0; i--) {
+            digitos[i] = (char) ('0' + numero % 10);
+            numero /= 10;
+        }
+        return new String(digitos);
+    }
+}
@@ -15,9 +15,14 @@ public class Usuario {
     @Column(unique = true, nullable = false, length = 50)
     private String username;
 
-    @Column(nullable = false, length = 100)
+    // Hash com prefixo {algoritmo}; Argon2 passa de 100 caracteres
+    @Column(nullable = false, length = 255)
     private String password;
 
+    // Incrementado para invalidar todos os tokens já emitidos para o usuário
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
+
     public Usuario(){
     }
     public Usuario(String username, String password){
@@ -49,6 +54,14 @@ public class Usuario {
         this.password = password;
     }
 
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(int tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+
     @Override
     public boolean equals(Object o) {
         if(this == o) return true;
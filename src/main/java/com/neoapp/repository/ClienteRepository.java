@@ -1,18 +1,80 @@
 package com.neoapp.repository;
 
 import com.neoapp.model.Cliente;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface ClienteRepository extends JpaRepository<Cliente, Long> {
 
     Optional<Cliente> findByCpf(String cpf);
 
-    Page<Cliente> findByNomeContainingIgnoreCase(String nome, Pageable pageable);
+    // Termos já normalizados (NomeNormalizer), comparados com a coluna nome_busca
+    Page<Cliente> findByNomeBuscaContaining(String termo, Pageable pageable);
 
+    Page<Cliente> findByNomeBuscaStartingWith(String termo, Pageable pageable);
+
+    interface NomeBusca {
+        Long getId();
+        String getNomeBusca();
+    }
+
+    // Varredura enxuta para a busca FUZZY quando o banco não tem pg_trgm
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select c.id as id, c.nomeBusca as nomeBusca from Cliente c")
+    Stream<NomeBusca> streamNomesBusca();
 
     Optional<Cliente> findByEmail(String email);
+
+    interface ChavesUnicas {
+        String getCpf();
+        String getEmail();
+    }
+
+    // Só CPF e email, para montar o filtro de unicidade (ClienteUnicidadeFiltro)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select c.cpf as cpf, c.email as email from Cliente c")
+    Stream<ChavesUnicas> streamChavesUnicas();
+
+    @Query("select c.cpf from Cliente c where c.cpf in :cpfs")
+    Set<String> findCpfsExistentes(@Param("cpfs") Collection<String> cpfs);
+
+    @Query("select c.email from Cliente c where c.email in :emails")
+    Set<String> findEmailsExistentes(@Param("emails") Collection<String> emails);
+
+    // Paginação por cursor (keyset): continua a partir de (nome, id) sem OFFSET nem count(*)
+    @Query("select c from Cliente c order by c.nome asc, c.id asc")
+    List<Cliente> findPrimeiros(Limit limit);
+
+    // Comparação de tupla: vira um único início de faixa em idx_clients_nome_id; o equivalente com OR
+    // (nome > x or (nome = x and id > y)) faz o PostgreSQL percorrer o índice desde o começo
+    @Query("select c from Cliente c where (c.nome, c.id) > (:nome, :id) order by c.nome asc, c.id asc")
+    List<Cliente> findApos(@Param("nome") String nome, @Param("id") Long id, Limit limit);
+
+    @Query("select c from Cliente c where c.nomeBusca like concat('%', :filtro, '%') order by c.nome asc, c.id asc")
+    List<Cliente> findPrimeirosPorNome(@Param("filtro") String filtro, Limit limit);
+
+    @Query("select c from Cliente c where c.nomeBusca like concat('%', :filtro, '%') "
+            + "and (c.nome, c.id) > (:nome, :id) order by c.nome asc, c.id asc")
+    List<Cliente> findAposPorNome(@Param("filtro") String filtro, @Param("nome") String nome, @Param("id") Long id, Limit limit);
+
+    // Cursor forward-only para exportação; precisa de uma transação aberta enquanto o Stream é consumido
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c from Cliente c order by c.id")
+    Stream<Cliente> streamAllOrderById();
 }
@@ -0,0 +1,140 @@
+package com.neoapp.search;
+
+import com.neoapp.model.Cliente;
+import com.neoapp.repository.ClienteRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Busca de clientes por nome sobre a coluna normalizada `nome_busca`.
+// CONTEM/PREFIXO são LIKE sobre a coluna normalizada (sem lower() nem acentos na consulta);
+// FUZZY usa pg_trgm no PostgreSQL e, nos demais bancos (H2), a mesma métrica de trigramas calculada em memória.
+@Component
+public class ClienteNomeSearch {
+
+    private static final Logger log = LoggerFactory.getLogger(ClienteNomeSearch.class);
+
+    private static final String FUZZY_PG = """
+            select * from clients
+            where nome_busca % :termo and similarity(nome_busca, :termo) >= :limiar
+            order by similarity(nome_busca, :termo) desc, cliente_id
+            """;
+    private static final String FUZZY_PG_COUNT = """
+            select count(*) from clients
+            where nome_busca % :termo and similarity(nome_busca, :termo) >= :limiar
+            """;
+
+    private final ClienteRepository clienteRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final double limiar;
+    private boolean trigramNoBanco;
+
+    public ClienteNomeSearch(ClienteRepository clienteRepository, EntityManager entityManager, JdbcTemplate jdbcTemplate,
+                             @Value("${clientes.busca.fuzzy-threshold:0.3}") double limiar) {
+        this.clienteRepository = clienteRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.limiar = limiar;
+    }
+
+    // No PostgreSQL, usa pg_trgm se a extensão existir; ela e o índice GIN vêm da migração
+    // db/migration/postgresql/V1_1 (sem permissão para criar a extensão, a busca FUZZY cai para memória)
+    @PostConstruct
+    void detectarTrigram() {
+        String banco = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(banco)) {
+            return;
+        }
+        Integer extensoes = jdbcTemplate.queryForObject(
+                "select count(*) from pg_extension where extname = 'pg_trgm'", Integer.class);
+        trigramNoBanco = extensoes != null && extensoes > 0;
+        if (!trigramNoBanco) {
+            log.warn("Extensão pg_trgm ausente: busca FUZZY será calculada em memória (create extension pg_trgm)");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Cliente> buscar(String nome, ModoBusca modo, Pageable pageable) {
+        String termo = NomeNormalizer.normalizar(nome);
+        return switch (modo) {
+            case CONTEM -> clienteRepository.findByNomeBuscaContaining(termo, pageable);
+            case PREFIXO -> clienteRepository.findByNomeBuscaStartingWith(termo, ordenarPorNomeBusca(pageable));
+            case FUZZY -> termo == null || termo.isEmpty()
+                    ? Page.empty(pageable)
+                    : trigramNoBanco ? fuzzyNoBanco(termo, pageable) : fuzzyEmMemoria(termo, pageable);
+        };
+    }
+
+    // Ordenar por nome_busca (equivalente a nome, sem acentos) permite que o índice atenda filtro e ordenação
+    private static Pageable ordenarPorNomeBusca(Pageable pageable) {
+        List<Sort.Order> ordens = pageable.getSort().toList();
+        if (ordens.size() != 1 || !"nome".equals(ordens.getFirst().getProperty())) {
+            return pageable;
+        }
+        Sort.Direction direcao = ordens.getFirst().getDirection();
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(direcao, "nomeBusca", "id"));
+    }
+
+    private Page<Cliente> fuzzyNoBanco(String termo, Pageable pageable) {
+        @SuppressWarnings("unchecked")
+        List<Cliente> clientes = entityManager.createNativeQuery(FUZZY_PG, Cliente.class)
+                .setParameter("termo", termo)
+                .setParameter("limiar", limiar)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        Number total = (Number) entityManager.createNativeQuery(FUZZY_PG_COUNT)
+                .setParameter("termo", termo)
+                .setParameter("limiar", limiar)
+                .getSingleResult();
+        return new PageImpl<>(clientes, pageable, total.longValue());
+    }
+
+    // Percorre apenas (id, nome_busca) e mantém (id, semelhança) dos que passam do limiar
+    private Page<Cliente> fuzzyEmMemoria(String termo, Pageable pageable) {
+        Set<String> trigramasTermo = Trigramas.de(termo);
+        List<Resultado> resultados = new ArrayList<>();
+        try (Stream<ClienteRepository.NomeBusca> nomes = clienteRepository.streamNomesBusca()) {
+            nomes.forEach(n -> {
+                double semelhanca = Trigramas.semelhanca(trigramasTermo, Trigramas.de(n.getNomeBusca()));
+                if (semelhanca >= limiar) {
+                    resultados.add(new Resultado(n.getId(), semelhanca));
+                }
+            });
+        }
+        resultados.sort(Comparator.comparingDouble(Resultado::semelhanca).reversed().thenComparing(Resultado::id));
+
+        int inicio = (int) Math.min(pageable.getOffset(), resultados.size());
+        int fim = Math.min(inicio + pageable.getPageSize(), resultados.size());
+        List<Long> ids = resultados.subList(inicio, fim).stream().map(Resultado::id).toList();
+        Map<Long, Cliente> porId = clienteRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Cliente::getId, Function.identity()));
+        List<Cliente> pagina = ids.stream().map(porId::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(pagina, pageable, resultados.size());
+    }
+
+    private record Resultado(Long id, double semelhanca) {
+    }
+}
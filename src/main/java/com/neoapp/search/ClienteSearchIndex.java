@@ -0,0 +1,441 @@
+package com.neoapp.search;
+
+import com.neoapp.dto.ClienteMapper;
+import com.neoapp.dto.ClienteResponseDTO;
+import com.neoapp.dto.SearchIndexStatsDTO;
+import com.neoapp.exception.BusinessRuleException;
+import com.neoapp.exception.ConflictException;
+import com.neoapp.exception.ErrorCode;
+import com.neoapp.model.Cliente;
+import com.neoapp.repository.ClienteRepository;
+import com.neoapp.service.ClienteEvent;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// Índice invertido em memória sobre nome e email (type-ahead da central de atendimento).
+// Termos = palavras normalizadas (NomeNormalizer); cada termo aponta para os ids dos clientes que o contêm.
+// Construído na subida a partir do banco e mantido pelos ClienteEvent publicados pelos services.
+@Component
+public class ClienteSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ClienteSearchIndex.class);
+
+    private static final int PESO_EXATO = 3;
+    private static final int PESO_PREFIXO = 2;
+    private static final int PESO_FUZZY = 1;
+
+    private final ClienteRepository clienteRepository;
+    private final ClienteMapper mapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean habilitado;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean reconstruindo = new AtomicBoolean();
+    private Estado estado = new Estado();
+    // Eventos recebidos durante uma reconstrução, reaplicados sobre o novo estado antes da troca
+    private List<ClienteEvent> pendentes;
+
+    private final LongAdder consultas = new LongAdder();
+    private final LongAdder latenciaTotalNanos = new LongAdder();
+    private final LongAccumulator latenciaMaximaNanos = new LongAccumulator(Math::max, 0);
+    private volatile LocalDateTime ultimaReconstrucao;
+    private volatile long duracaoReconstrucaoMs;
+
+    public ClienteSearchIndex(ClienteRepository clienteRepository, ClienteMapper mapper, EntityManager entityManager,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${clientes.search-index.enabled:false}") boolean habilitado) {
+        this.clienteRepository = clienteRepository;
+        this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.habilitado = habilitado;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void construirNaSubida() {
+        if (habilitado) {
+            reconstruir();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ClienteEvent evento) {
+        if (!habilitado) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            estado.aplicar(evento);
+            if (pendentes != null) {
+                pendentes.add(evento);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Monta um estado novo fora do lock (as buscas seguem atendidas pelo atual) e troca no final.
+    // Uma reconstrução por vez: quem chega durante outra recebe 409 em vez de esperar na fila
+    public SearchIndexStatsDTO reconstruir() {
+        verificarHabilitado();
+        if (!reconstruindo.compareAndSet(false, true)) {
+            throw new ConflictException(ErrorCode.SEARCH_INDEX_REBUILD_IN_PROGRESS);
+        }
+        try {
+            return reconstruirEstado();
+        } finally {
+            reconstruindo.set(false);
+        }
+    }
+
+    private SearchIndexStatsDTO reconstruirEstado() {
+        long inicio = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            pendentes = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Estado novo = new Estado();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Cliente> clientes = clienteRepository.streamAllOrderById()) {
+                    clientes.forEach(cliente -> {
+                        novo.adicionar(mapper.toDto(cliente));
+                        entityManager.detach(cliente);
+                    });
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendentes = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendentes.forEach(novo::aplicar);
+            estado = novo;
+            pendentes = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        duracaoReconstrucaoMs = (System.nanoTime() - inicio) / 1_000_000;
+        ultimaReconstrucao = LocalDateTime.now();
+        log.info("Índice de busca reconstruído: {} clientes em {} ms", novo.documentos.size(), duracaoReconstrucaoMs);
+        return stats();
+    }
+
+    // Todas as palavras da consulta precisam casar (exato, prefixo ou, com fuzzy, até 1-2 edições);
+    // resultado ordenado pela pontuação e depois pelo nome
+    public Page<ClienteResponseDTO> buscar(String q, boolean fuzzy, Pageable pageable) {
+        verificarHabilitado();
+        long inicio = System.nanoTime();
+        List<String> tokens = tokens(q);
+        int limite = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+        Resultado resultado;
+
+        lock.readLock().lock();
+        try {
+            resultado = estado.buscar(tokens, fuzzy, limite);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<ClienteResponseDTO> melhores = resultado.melhores();
+        int de = (int) Math.min(pageable.getOffset(), melhores.size());
+        List<ClienteResponseDTO> pagina = melhores.subList(de, melhores.size());
+
+        long nanos = System.nanoTime() - inicio;
+        consultas.increment();
+        latenciaTotalNanos.add(nanos);
+        latenciaMaximaNanos.accumulate(nanos);
+        return new PageImpl<>(pagina, pageable, resultado.total());
+    }
+
+    public SearchIndexStatsDTO stats() {
+        int documentos;
+        int termos;
+        long postings;
+        lock.readLock().lock();
+        try {
+            documentos = estado.documentos.size();
+            termos = estado.termos.size();
+            postings = estado.postings;
+        } finally {
+            lock.readLock().unlock();
+        }
+        long total = consultas.sum();
+        double media = total == 0 ? 0 : latenciaTotalNanos.sum() / 1_000.0 / total;
+        return new SearchIndexStatsDTO(habilitado, documentos, termos, postings, total, media,
+                latenciaMaximaNanos.get() / 1_000, ultimaReconstrucao, duracaoReconstrucaoMs);
+    }
+
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+
+    private void verificarHabilitado() {
+        if (!habilitado) {
+            throw new BusinessRuleException(ErrorCode.SEARCH_INDEX_DISABLED);
+        }
+    }
+
+    static List<String> tokens(String texto) {
+        String normalizado = NomeNormalizer.normalizar(texto);
+        if (normalizado == null || normalizado.isEmpty()) {
+            return List.of();
+        }
+        return List.of(normalizado.split(" "));
+    }
+
+    // Distância de edição limitada: desiste assim que a linha inteira passa de `maximo`
+    static boolean dentroDaDistancia(String a, String b, int maximo) {
+        if (Math.abs(a.length() - b.length()) > maximo) {
+            return false;
+        }
+        int[] anterior = new int[b.length() + 1];
+        int[] atual = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            anterior[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            atual[0] = i;
+            int menor = atual[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int custo = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                atual[j] = Math.min(Math.min(atual[j - 1] + 1, anterior[j] + 1), anterior[j - 1] + custo);
+                menor = Math.min(menor, atual[j]);
+            }
+            if (menor > maximo) {
+                return false;
+            }
+            int[] troca = anterior;
+            anterior = atual;
+            atual = troca;
+        }
+        return anterior[b.length()] <= maximo;
+    }
+
+    private record Documento(ClienteResponseDTO cliente, String[] termos, String nomeOrdenacao) {
+    }
+
+    private record Pontuado(Documento documento, int pontos) {
+    }
+
+    private record Resultado(List<ClienteResponseDTO> melhores, int total) {
+    }
+
+    // Maior pontuação primeiro; empate pelo nome e depois pelo id
+    private static final Comparator<Pontuado> RELEVANCIA = Comparator.comparingInt(Pontuado::pontos).reversed()
+            .thenComparing(p -> p.documento().nomeOrdenacao())
+            .thenComparing(p -> p.documento().cliente().id());
+
+    private static final class Estado {
+
+        private final Map<Long, Documento> documentos = new HashMap<>();
+        private final NavigableMap<String, Set<Long>> termos = new TreeMap<>();
+        // Só as palavras de nomes (com contagem de uso): candidatas da expansão fuzzy.
+        // Os termos de email são quase todos únicos e ficariam de fora de qualquer forma, mas inflariam a varredura
+        private final NavigableMap<String, Integer> vocabularioNomes = new TreeMap<>();
+        private long postings;
+
+        void aplicar(ClienteEvent evento) {
+            if (evento.tipo() == ClienteEvent.Tipo.REMOVIDO) {
+                remover(evento.id());
+            } else {
+                adicionar(evento.cliente());
+            }
+        }
+
+        void adicionar(ClienteResponseDTO cliente) {
+            remover(cliente.id());
+            Set<String> termosDoCliente = new HashSet<>(tokens(cliente.nome()));
+            termosDoCliente.addAll(tokens(cliente.email()));
+            documentos.put(cliente.id(), new Documento(cliente, termosDoCliente.toArray(String[]::new),
+                    NomeNormalizer.normalizar(cliente.nome())));
+            for (String termo : termosDoCliente) {
+                termos.computeIfAbsent(termo, t -> new HashSet<>()).add(cliente.id());
+            }
+            postings += termosDoCliente.size();
+            for (String termo : new HashSet<>(tokens(cliente.nome()))) {
+                vocabularioNomes.merge(termo, 1, Integer::sum);
+            }
+        }
+
+        void remover(Long id) {
+            Documento documento = documentos.remove(id);
+            if (documento == null) {
+                return;
+            }
+            for (String termo : documento.termos()) {
+                Set<Long> ids = termos.get(termo);
+                if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                    termos.remove(termo);
+                }
+            }
+            postings -= documento.termos().length;
+            for (String termo : new HashSet<>(tokens(documento.nomeOrdenacao()))) {
+                vocabularioNomes.computeIfPresent(termo, (t, usos) -> usos == 1 ? null : usos - 1);
+            }
+        }
+
+        // A palavra mais seletiva gera os candidatos; as demais são conferidas nos termos de cada candidato,
+        // e só os `limite` melhores são ordenados (heap), não todos os que casam
+        Resultado buscar(List<String> tokens, boolean fuzzy, int limite) {
+            if (tokens.isEmpty()) {
+                return new Resultado(List.of(), 0);
+            }
+            // Palavras de nomes a até 1-2 edições de cada token, calculadas uma vez por consulta
+            Map<String, Set<String>> vizinhos = new HashMap<>();
+            if (fuzzy) {
+                tokens.forEach(token -> vizinhos.put(token, vizinhosFuzzy(token)));
+            }
+            String guia = tokens.getFirst();
+            long menorCusto = Long.MAX_VALUE;
+            for (String token : tokens) {
+                long custo = custo(token, vizinhos.getOrDefault(token, Set.of()), menorCusto);
+                if (custo < menorCusto) {
+                    menorCusto = custo;
+                    guia = token;
+                }
+            }
+
+            PriorityQueue<Pontuado> melhores = new PriorityQueue<>(RELEVANCIA.reversed());
+            int total = 0;
+            for (Map.Entry<Long, Integer> candidato : candidatos(guia, vizinhos.getOrDefault(guia, Set.of())).entrySet()) {
+                Documento documento = documentos.get(candidato.getKey());
+                int pontos = candidato.getValue();
+                for (String token : tokens) {
+                    if (token == guia) {
+                        continue;
+                    }
+                    int peso = pontuar(token, documento.termos(), vizinhos.getOrDefault(token, Set.of()));
+                    if (peso == 0) {
+                        pontos = 0;
+                        break;
+                    }
+                    pontos += peso;
+                }
+                if (pontos == 0) {
+                    continue;
+                }
+                total++;
+                if (melhores.size() == limite && !superaPior(pontos, documento, melhores.peek())) {
+                    continue;
+                }
+                melhores.add(new Pontuado(documento, pontos));
+                if (melhores.size() > limite) {
+                    melhores.poll();
+                }
+            }
+
+            List<Pontuado> ordenados = new ArrayList<>(melhores);
+            ordenados.sort(RELEVANCIA);
+            return new Resultado(ordenados.stream().map(p -> p.documento().cliente()).toList(), total);
+        }
+
+        private static boolean superaPior(int pontos, Documento documento, Pontuado pior) {
+            if (pontos != pior.pontos()) {
+                return pontos > pior.pontos();
+            }
+            int nome = documento.nomeOrdenacao().compareTo(pior.documento().nomeOrdenacao());
+            return nome != 0 ? nome < 0 : documento.cliente().id() < pior.documento().cliente().id();
+        }
+
+        // Quantidade de postings que a palavra geraria; para de contar ao passar do menor já visto
+        private long custo(String token, Set<String> vizinhos, long teto) {
+            long custo = 0;
+            for (Set<Long> ids : termos.subMap(token, true, token + Character.MAX_VALUE, false).values()) {
+                custo += ids.size();
+                if (custo >= teto) {
+                    return custo;
+                }
+            }
+            for (String vizinho : vizinhos) {
+                custo += termos.get(vizinho).size();
+                if (custo >= teto) {
+                    return custo;
+                }
+            }
+            return custo;
+        }
+
+        // Prefixo (inclui o próprio termo): faixa do mapa ordenado entre token e token + Character.MAX_VALUE
+        private Map<Long, Integer> candidatos(String token, Set<String> vizinhos) {
+            Map<Long, Integer> pontos = new HashMap<>();
+            for (Map.Entry<String, Set<Long>> termo : termos.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+                int peso = termo.getKey().length() == token.length() ? PESO_EXATO : PESO_PREFIXO;
+                termo.getValue().forEach(id -> pontos.merge(id, peso, Math::max));
+            }
+            for (String vizinho : vizinhos) {
+                termos.get(vizinho).forEach(id -> pontos.merge(id, PESO_FUZZY, Math::max));
+            }
+            return pontos;
+        }
+
+        private static int pontuar(String token, String[] termosDoDocumento, Set<String> vizinhos) {
+            int melhor = 0;
+            for (String termo : termosDoDocumento) {
+                if (termo.startsWith(token)) {
+                    melhor = Math.max(melhor, termo.length() == token.length() ? PESO_EXATO : PESO_PREFIXO);
+                } else if (melhor == 0 && vizinhos.contains(termo)) {
+                    melhor = PESO_FUZZY;
+                }
+            }
+            return melhor;
+        }
+
+        // Candidatos restritos às palavras de nomes com a mesma inicial
+        private Set<String> vizinhosFuzzy(String token) {
+            if (token.length() < 3) {
+                return Set.of();
+            }
+            int maximo = token.length() >= 6 ? 2 : 1;
+            String inicial = token.substring(0, 1);
+            Set<String> vizinhos = new HashSet<>();
+            for (String termo : vocabularioNomes.subMap(inicial, true, inicial + Character.MAX_VALUE, false).keySet()) {
+                if (!termo.startsWith(token) && dentroDaDistancia(token, termo, maximo)) {
+                    vizinhos.add(termo);
+                }
+            }
+            return vizinhos;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.neoapp.search;
+
+import com.neoapp.exception.BusinessRuleException;
+import com.neoapp.exception.ErrorCode;
+
+public enum ModoBusca {
+    // Trecho em qualquer posição do nome
+    CONTEM,
+    // Início do nome
+    PREFIXO,
+    // Semelhança por trigramas, ordenada pela mais próxima (tolera erros de digitação)
+    FUZZY;
+
+    public static ModoBusca of(String valor) {
+        for (ModoBusca modo : values()) {
+            if (modo.name().equalsIgnoreCase(valor)) {
+                return modo;
+            }
+        }
+        throw new BusinessRuleException(ErrorCode.INVALID_INPUT);
+    }
+}
@@ -0,0 +1,52 @@
+package com.neoapp.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// Preenche nome_busca de registros gravados antes da coluna existir (bancos criados pelo antigo ddl-auto).
+// Cada lote numa transação própria: em produção o pool entrega conexões com auto-commit desligado
+@Component
+public class NomeBuscaBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(NomeBuscaBackfill.class);
+    private static final int LOTE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public NomeBuscaBackfill(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preencher() {
+        int total = 0;
+        int preenchidos;
+        do {
+            preenchidos = transactionTemplate.execute(status -> preencherLote());
+            total += preenchidos;
+        } while (preenchidos == LOTE);
+        if (total > 0) {
+            log.info("nome_busca preenchido para {} clientes", total);
+        }
+    }
+
+    private int preencherLote() {
+        List<Object[]> lote = jdbcTemplate.query(
+                "select cliente_id, nome from clients where nome_busca is null order by cliente_id fetch first " + LOTE + " rows only",
+                (rs, i) -> new Object[]{NomeNormalizer.normalizar(rs.getString("nome")), rs.getLong("cliente_id")});
+        if (!lote.isEmpty()) {
+            jdbcTemplate.batchUpdate("update clients set nome_busca = ? where cliente_id = ?", lote);
+        }
+        return lote.size();
+    }
+}
@@ -0,0 +1,25 @@
+package com.neoapp.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// Forma canônica dos nomes para busca: sem acentos, minúsculas, apenas letras/dígitos separados por um espaço.
+// Como `%` e `_` nunca sobrevivem à normalização, o termo pode ir direto para um LIKE.
+public final class NomeNormalizer {
+
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^a-z0-9]+");
+
+    private NomeNormalizer() {
+    }
+
+    // Locale.ROOT: com o locale do servidor em tr/az, "I" viraria "ı", que os separadores removeriam
+    public static String normalizar(String nome) {
+        if (nome == null) {
+            return null;
+        }
+        String semAcentos = MARCAS.matcher(Normalizer.normalize(nome, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARADORES.matcher(semAcentos.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+}
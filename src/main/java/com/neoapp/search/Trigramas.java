@@ -0,0 +1,42 @@
+package com.neoapp.search;
+
+import java.util.HashSet;
+import java.util.Set;
+
+// Mesma definição do pg_trgm: cada palavra recebe dois espaços à esquerda e um à direita;
+// semelhança = trigramas em comum / trigramas distintos dos dois lados
+public final class Trigramas {
+
+    private Trigramas() {
+    }
+
+    public static Set<String> de(String normalizado) {
+        Set<String> trigramas = new HashSet<>();
+        if (normalizado == null) {
+            return trigramas;
+        }
+        for (String palavra : normalizado.split(" ")) {
+            if (palavra.isEmpty()) {
+                continue;
+            }
+            String marcada = "  " + palavra + " ";
+            for (int i = 0; i + 3 <= marcada.length(); i++) {
+                trigramas.add(marcada.substring(i, i + 3));
+            }
+        }
+        return trigramas;
+    }
+
+    public static double semelhanca(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        int comuns = 0;
+        for (String trigrama : a) {
+            if (b.contains(trigrama)) {
+                comuns++;
+            }
+        }
+        return (double) comuns / (a.size() + b.size() - comuns);
+    }
+}
@@ -1,34 +1,102 @@
 package com.neoapp.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.neoapp.model.Usuario;
 import com.neoapp.repository.UsuarioRepository;
-import org.springframework.security.core.userdetails.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
 
 @Service
-public class AppUserDetailsService implements UserDetailsService {
+public class AppUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+
+    private static final GrantedAuthority ADMIN = new SimpleGrantedAuthority("ROLE_ADMIN");
 
     private final UsuarioRepository usuarioRepository;
 
-    public AppUserDetailsService(UsuarioRepository usuarioRepository) {
+    // Usuários existentes e, separadamente, usernames inexistentes (cache negativo),
+    // para que uma enxurrada de nomes aleatórios não expulse os usuários válidos
+    private final Cache<String, AppUserDetails> usuarios;
+    private final Cache<String, Boolean> usuariosDesconhecidos;
+    private final Set<String> administradores;
+
+    public AppUserDetailsService(UsuarioRepository usuarioRepository,
+                                 @Value("${security.user-cache.max-size:10000}") long maxSize,
+                                 @Value("${security.user-cache.ttl:PT5M}") Duration ttl,
+                                 @Value("${security.user-cache.negative-max-size:10000}") long negativeMaxSize,
+                                 @Value("${security.user-cache.negative-ttl:PT30S}") Duration negativeTtl,
+                                 @Value("${security.admin-users:}") Set<String> administradores) {
         this.usuarioRepository = usuarioRepository;
+        this.administradores = administradores;
+        this.usuarios = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.usuariosDesconhecidos = Caffeine.newBuilder()
+                .maximumSize(negativeMaxSize)
+                .expireAfterWrite(negativeTtl)
+                .recordStats()
+                .build();
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Usuario usuario = usuarioRepository.findByUsername(username)
+        AppUserDetails cached = usuarios.getIfPresent(username);
+        if (cached == null) {
+            if (usuariosDesconhecidos.getIfPresent(username) != null) {
+                throw new UsernameNotFoundException("Usuário não encontrado");
+            }
+            Usuario usuario = usuarioRepository.findByUsername(username).orElse(null);
+            if (usuario == null) {
+                usuariosDesconhecidos.put(username, Boolean.TRUE);
+                throw new UsernameNotFoundException("Usuário não encontrado");
+            }
+            cached = new AppUserDetails(
+                    usuario.getUsername(),
+                    usuario.getPassword(),
+                    administradores.contains(usuario.getUsername()) ? List.of(ADMIN) : List.of(),
+                    usuario.getTokenVersion()
+            );
+            usuarios.put(username, cached);
+        }
+        // O ProviderManager apaga a senha do principal após autenticar, então nunca entregamos a instância do cache
+        return new AppUserDetails(cached.getUsername(), cached.getPassword(), cached.getAuthorities(), cached.getTokenVersion());
+    }
+
+    // Chamado pelo DaoAuthenticationProvider quando a senha foi validada com um hash em formato antigo
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Usuario usuario = usuarioRepository.findByUsername(user.getUsername())
                 .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado"));
+        usuario.setPassword(newPassword);
+        usuarioRepository.save(usuario);
+        evict(usuario.getUsername());
+        return new AppUserDetails(usuario.getUsername(), newPassword, user.getAuthorities(), usuario.getTokenVersion());
+    }
+
+    public void evict(String username) {
+        usuarios.invalidate(username);
+        usuariosDesconhecidos.invalidate(username);
+    }
+
+    public CacheStats usuariosCacheStats() {
+        return usuarios.stats();
+    }
 
-        return new User(
-                usuario.getUsername(),
-                usuario.getPassword(),
-                Collections.emptyList()
-        );
+    public CacheStats usuariosDesconhecidosCacheStats() {
+        return usuariosDesconhecidos.stats();
     }
 
-}
\ No newline at end of file
+}
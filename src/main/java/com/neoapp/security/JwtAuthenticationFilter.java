@@ -1,12 +1,15 @@
 package com.neoapp.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -20,10 +23,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationRegistry revocationRegistry;
+    private final boolean stateless;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService,
+                                   TokenRevocationRegistry revocationRegistry,
+                                   @Value("${jwt.stateless:false}") boolean stateless) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.revocationRegistry = revocationRegistry;
+        this.stateless = stateless;
     }
 
     @Override
@@ -46,8 +55,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         username = jwtUtil.extractUsername(jwt);
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-            if (jwtUtil.isTokenValid(jwt, userDetails)) {
+            UserDetails userDetails = stateless ? principalDoToken(jwt, username) : carregarUsuario(jwt, username);
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -59,4 +68,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private UserDetails carregarUsuario(String jwt, String username) {
+        UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        return jwtUtil.isTokenValid(jwt, userDetails) ? userDetails : null;
+    }
+
+    // Modo stateless: o principal é montado a partir das claims já verificadas, sem consulta ao banco
+    private UserDetails principalDoToken(String jwt, String username) {
+        Claims claims = jwtUtil.extractAllClaims(jwt);
+        if (jwtUtil.isRefreshToken(claims)
+                || jwtUtil.isTokenExpired(claims)
+                || revocationRegistry.isRevogado(username, jwtUtil.extractTokenVersion(claims))) {
+            return null;
+        }
+        return User.withUsername(username)
+                .password("")
+                .authorities(jwtUtil.extractAuthorities(claims))
+                .build();
+    }
+}
@@ -1,30 +1,96 @@
 package com.neoapp.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
+    private static final String CLAIM_ROLES = "roles";
+    private static final String CLAIM_VERSAO = "ver";
+    private static final String CLAIM_TIPO = "typ";
+    private static final String TIPO_REFRESH = "refresh";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration-ms}")
     private long jwtExpirationMs;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(this.jwtSecret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    @Value("${jwt.refresh-expiration-ms:604800000}")
+    private long refreshExpirationMs;
+
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    // Chave e parser são imutáveis e thread-safe: montados uma única vez
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    // Claims de tokens já verificados, válidos até a expiração do próprio token
+    private Cache<String, Claims> verifiedTokens;
+
+    // Sem registry (testes unitários), os timers ficam num SimpleMeterRegistry descartável
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    // jwt.verify{result=cached|verified|rejected} e jwt.issue{type=access|refresh}
+    private Timer verificacaoCache;
+    private Timer verificacaoAssinatura;
+    private Timer verificacaoRejeitada;
+    private Timer emissaoAccess;
+    private Timer emissaoRefresh;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(this.jwtSecret));
+        this.jwtParser = Jwts.parser().verifyWith(signingKey).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(Expiry.<String, Claims>creating((hash, claims) -> tempoRestante(claims)))
+                .recordStats()
+                .build();
+        MeterRegistry registry = meterRegistry != null ? meterRegistry : new SimpleMeterRegistry();
+        this.verificacaoCache = timer(registry, "jwt.verify", "result", "cached");
+        this.verificacaoAssinatura = timer(registry, "jwt.verify", "result", "verified");
+        this.verificacaoRejeitada = timer(registry, "jwt.verify", "result", "rejected");
+        this.emissaoAccess = timer(registry, "jwt.issue", "type", "access");
+        this.emissaoRefresh = timer(registry, "jwt.issue", "type", "refresh");
+    }
+
+    private static Timer timer(MeterRegistry registry, String nome, String tag, String valor) {
+        return Timer.builder(nome).tag(tag, valor).register(registry);
     }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -35,30 +101,111 @@ public class JwtUtil {
     }
 
     public Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        long inicio = System.nanoTime();
+        String chave = hash(token);
+        Claims claims = verifiedTokens.getIfPresent(chave);
+        if (claims != null) {
+            verificacaoCache.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            return claims;
+        }
+        try {
+            // Tokens inválidos ou expirados lançam exceção aqui e nunca entram no cache
+            claims = jwtParser.parseSignedClaims(token).getPayload();
+        } catch (RuntimeException e) {
+            verificacaoRejeitada.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        verifiedTokens.put(chave, claims);
+        verificacaoAssinatura.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        return claims;
+    }
+
+    public int extractTokenVersion(Claims claims) {
+        Integer versao = claims.get(CLAIM_VERSAO, Integer.class);
+        return versao == null ? 0 : versao;
+    }
+
+    public List<GrantedAuthority> extractAuthorities(Claims claims) {
+        List<?> roles = claims.get(CLAIM_ROLES, List.class);
+        if (roles == null) {
+            return Collections.emptyList();
+        }
+        return roles.stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority(role.toString()))
+                .toList();
     }
 
     public String generateToken(UserDetails userDetails) {
+        return emissaoAccess.record(() -> gerarAccessToken(userDetails));
+    }
+
+    private String gerarAccessToken(UserDetails userDetails) {
+        int versao = userDetails instanceof AppUserDetails app ? app.getTokenVersion() : 0;
         return Jwts.builder()
                 .subject(userDetails.getUsername())
+                .claim(CLAIM_ROLES, userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList())
+                .claim(CLAIM_VERSAO, versao)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    // Refresh token: só serve para obter um novo par de tokens, nunca autentica requisições
+    public String generateRefreshToken(UserDetails userDetails) {
+        return emissaoRefresh.record(() -> gerarRefreshToken(userDetails));
+    }
+
+    private String gerarRefreshToken(UserDetails userDetails) {
+        int versao = userDetails instanceof AppUserDetails app ? app.getTokenVersion() : 0;
+        return Jwts.builder()
+                .subject(userDetails.getUsername())
+                .claim(CLAIM_TIPO, TIPO_REFRESH)
+                .claim(CLAIM_VERSAO, versao)
+                .issuedAt(new Date(System.currentTimeMillis()))
+                .expiration(new Date(System.currentTimeMillis() + refreshExpirationMs))
+                .signWith(signingKey)
+                .compact();
+    }
+
+    public boolean isRefreshToken(Claims claims) {
+        return TIPO_REFRESH.equals(claims.get(CLAIM_TIPO, String.class));
+    }
+
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        final Claims claims = extractAllClaims(token);
+        return !isRefreshToken(claims) && isTokenValid(claims, userDetails);
+    }
+
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        boolean versaoAtual = !(userDetails instanceof AppUserDetails app)
+                || app.getTokenVersion() == extractTokenVersion(claims);
+        return claims.getSubject().equals(userDetails.getUsername()) && versaoAtual && !isTokenExpired(claims);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractClaim(token, Claims::getExpiration).before(new Date());
+    public CacheStats verifiedTokenCacheStats() {
+        return verifiedTokens.stats();
     }
 
+    public boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
+    }
+
+    private static Duration tempoRestante(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return Duration.ZERO;
+        }
+        long restante = expiration.getTime() - System.currentTimeMillis();
+        return restante > 0 ? Duration.ofMillis(restante) : Duration.ZERO;
+    }
 
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível na JVM", e);
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package com.neoapp.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Menor versão de token ainda aceita para usuários que revogaram seus tokens.
+// A revogação só precisa ser lembrada enquanto os tokens antigos não expiram,
+// por isso o TTL acompanha o tempo de vida do JWT e a consulta não toca o banco.
+// Sem limite de tamanho: uma entrada descartada antes do TTL tornaria válido de novo um token revogado.
+// O tamanho fica limitado pelas revogações feitas dentro de um tempo de vida do JWT.
+@Component
+public class TokenRevocationRegistry {
+
+    private final Cache<String, Integer> versoesMinimas;
+
+    public TokenRevocationRegistry(@Value("${jwt.expiration-ms}") long jwtExpirationMs) {
+        this.versoesMinimas = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(jwtExpirationMs))
+                .recordStats()
+                .build();
+    }
+
+    public void revogar(String username, int novaVersao) {
+        versoesMinimas.asMap().merge(username, novaVersao, Math::max);
+    }
+
+    public boolean isRevogado(String username, int versaoDoToken) {
+        Integer versaoMinima = versoesMinimas.getIfPresent(username);
+        return versaoMinima != null && versaoDoToken < versaoMinima;
+    }
+
+    // Lidas pelo MetricsConfig: cache.evictions só conta expirações, nunca descarte por tamanho
+    public CacheStats revogacoesStats() {
+        return versoesMinimas.stats();
+    }
+}
@@ -0,0 +1,10 @@
+package com.neoapp.service;
+
+import com.neoapp.dto.AuthRequestDTO;
+import com.neoapp.dto.AuthResponseDTO;
+import com.neoapp.dto.RefreshTokenRequestDTO;
+
+public interface AuthService {
+    AuthResponseDTO login(AuthRequestDTO authRequest);
+    AuthResponseDTO refresh(RefreshTokenRequestDTO refreshRequest);
+}
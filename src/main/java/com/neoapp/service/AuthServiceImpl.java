@@ -0,0 +1,60 @@
+package com.neoapp.service;
+
+import com.neoapp.dto.AuthRequestDTO;
+import com.neoapp.dto.AuthResponseDTO;
+import com.neoapp.dto.RefreshTokenRequestDTO;
+import com.neoapp.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Service;
+
+@Service
+public class AuthServiceImpl implements AuthService {
+
+    private final AuthenticationManager authenticationManager;
+    private final UserDetailsService userDetailsService;
+    private final JwtUtil jwtUtil;
+
+    public AuthServiceImpl(AuthenticationManager authenticationManager, UserDetailsService userDetailsService, JwtUtil jwtUtil) {
+        this.authenticationManager = authenticationManager;
+        this.userDetailsService = userDetailsService;
+        this.jwtUtil = jwtUtil;
+    }
+
+    @Override
+    public AuthResponseDTO login(AuthRequestDTO authRequest) {
+        // O DaoAuthenticationProvider já carregou o usuário: emitimos os tokens a partir do principal autenticado
+        Authentication authentication = authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(authRequest.username(), authRequest.password()));
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        return emitirTokens(userDetails);
+    }
+
+    @Override
+    public AuthResponseDTO refresh(RefreshTokenRequestDTO refreshRequest) {
+        Claims claims;
+        try {
+            claims = jwtUtil.extractAllClaims(refreshRequest.refreshToken());
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BadCredentialsException("Refresh token inválido", e);
+        }
+        if (!jwtUtil.isRefreshToken(claims)) {
+            throw new BadCredentialsException("Refresh token inválido");
+        }
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        if (!jwtUtil.isTokenValid(claims, userDetails)) {
+            throw new BadCredentialsException("Refresh token revogado");
+        }
+        return emitirTokens(userDetails);
+    }
+
+    private AuthResponseDTO emitirTokens(UserDetails userDetails) {
+        return new AuthResponseDTO(jwtUtil.generateToken(userDetails), jwtUtil.generateRefreshToken(userDetails));
+    }
+}
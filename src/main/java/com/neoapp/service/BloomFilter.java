@@ -0,0 +1,91 @@
+package com.neoapp.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Filtro de Bloom sobre chaves de 64 bits (o chamador calcula o hash). Sem falsos negativos:
+// "ausente" é definitivo, "talvez" precisa ser confirmado no banco. Não remove chaves.
+// Inserções e consultas concorrentes sem lock (bits em AtomicLongArray)
+final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long tamanhoBits;
+    private final int funcoes;
+    private final LongAdder bitsLigados = new LongAdder();
+    private final LongAdder elementos = new LongAdder();
+
+    // Dimensionado para `capacidade` chaves com taxa de falsos positivos `fpp`
+    BloomFilter(long capacidade, double fpp) {
+        long n = Math.max(capacidade, 1);
+        long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.tamanhoBits = Math.max(64, (m + 63) / 64 * 64);
+        this.bits = new AtomicLongArray(Math.toIntExact(tamanhoBits / 64));
+        this.funcoes = Math.max(1, (int) Math.round((double) tamanhoBits / n * Math.log(2)));
+    }
+
+    void adicionar(long hash) {
+        // Duplo hashing (Kirsch-Mitzenmacher): as k posições saem de duas metades do hash
+        long h1 = hash;
+        long h2 = Long.rotateLeft(hash, 32) | 1;
+        boolean nova = false;
+        for (int i = 0; i < funcoes; i++) {
+            long posicao = Math.floorMod(h1 + i * h2, tamanhoBits);
+            int palavra = (int) (posicao >>> 6);
+            long mascara = 1L << posicao;
+            long anterior = bits.getAndUpdate(palavra, valor -> valor | mascara);
+            if ((anterior & mascara) == 0) {
+                bitsLigados.increment();
+                nova = true;
+            }
+        }
+        if (nova) {
+            elementos.increment();
+        }
+    }
+
+    boolean podeConter(long hash) {
+        long h1 = hash;
+        long h2 = Long.rotateLeft(hash, 32) | 1;
+        for (int i = 0; i < funcoes; i++) {
+            long posicao = Math.floorMod(h1 + i * h2, tamanhoBits);
+            if ((bits.get((int) (posicao >>> 6)) & (1L << posicao)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Taxa de falsos positivos esperada com a ocupação atual: (bits ligados / total) ^ k
+    double fppEstimada() {
+        return Math.pow((double) bitsLigados.sum() / tamanhoBits, funcoes);
+    }
+
+    // Chaves distintas inseridas (aproximado: uma chave cujos bits já estavam todos ligados não conta)
+    long elementos() {
+        return elementos.sum();
+    }
+
+    long tamanhoBytes() {
+        return tamanhoBits / 8;
+    }
+
+    // Finalizador do MurmurHash3: espalha os bits de chaves sequenciais (ex.: CPFs vizinhos)
+    static long misturar(long valor) {
+        valor ^= valor >>> 33;
+        valor *= 0xff51afd7ed558ccdL;
+        valor ^= valor >>> 33;
+        valor *= 0xc4ceb9fe1a85ec53L;
+        valor ^= valor >>> 33;
+        return valor;
+    }
+
+    // FNV-1a de 64 bits sobre os chars, seguido do finalizador
+    static long hash(CharSequence texto) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < texto.length(); i++) {
+            hash ^= texto.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return misturar(hash);
+    }
+}
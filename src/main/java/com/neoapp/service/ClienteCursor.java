@@ -0,0 +1,34 @@
+package com.neoapp.service;
+
+import com.neoapp.exception.BusinessRuleException;
+import com.neoapp.exception.ErrorCode;
+import com.neoapp.model.Cliente;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Posição (nome, id) do último cliente entregue, serializada como token opaco para o cliente da API
+record ClienteCursor(String nome, Long id) {
+
+    static ClienteCursor apos(Cliente cliente) {
+        return new ClienteCursor(cliente.getNome(), cliente.getId());
+    }
+
+    String encode() {
+        String valor = id + ":" + nome;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ClienteCursor decode(String cursor) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = valor.indexOf(':');
+            if (separador <= 0) {
+                throw new BusinessRuleException(ErrorCode.INVALID_CURSOR);
+            }
+            return new ClienteCursor(valor.substring(separador + 1), Long.valueOf(valor.substring(0, separador)));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessRuleException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.neoapp.service;
+
+import com.neoapp.dto.ClienteResponseDTO;
+
+// Publicado a cada gravação/remoção de cliente; ouvintes recebem após o commit da transação.
+// `cpfAnterior` só é preenchido quando uma atualização troca o CPF.
+public record ClienteEvent(Tipo tipo, Long id, ClienteResponseDTO cliente, String cpfAnterior) {
+
+    public enum Tipo { SALVO, REMOVIDO }
+
+    public static ClienteEvent salvo(ClienteResponseDTO cliente) {
+        return new ClienteEvent(Tipo.SALVO, cliente.id(), cliente, null);
+    }
+
+    public static ClienteEvent atualizado(ClienteResponseDTO cliente, String cpfAnterior) {
+        return new ClienteEvent(Tipo.SALVO, cliente.id(), cliente,
+                cpfAnterior.equals(cliente.cpf()) ? null : cpfAnterior);
+    }
+
+    public static ClienteEvent removido(Long id) {
+        return new ClienteEvent(Tipo.REMOVIDO, id, null, null);
+    }
+}
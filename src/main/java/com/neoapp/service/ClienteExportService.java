@@ -0,0 +1,41 @@
+package com.neoapp.service;
+
+import com.neoapp.exception.BusinessRuleException;
+import com.neoapp.exception.ErrorCode;
+
+import java.io.OutputStream;
+
+public interface ClienteExportService {
+
+    void exportar(Formato formato, OutputStream out);
+
+    enum Formato {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extensao;
+
+        Formato(String contentType, String extensao) {
+            this.contentType = contentType;
+            this.extensao = extensao;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtensao() {
+            return extensao;
+        }
+
+        public static Formato of(String valor) {
+            for (Formato formato : values()) {
+                if (formato.extensao.equalsIgnoreCase(valor)) {
+                    return formato;
+                }
+            }
+            throw new BusinessRuleException(ErrorCode.INVALID_INPUT);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.neoapp.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neoapp.model.Cliente;
+import com.neoapp.repository.ClienteRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.stream.Stream;
+
+@Service
+public class ClienteExportServiceImpl implements ClienteExportService {
+
+    private static final String CABECALHO_CSV = "id,cpf,nome,dataNascimento,email,createdAt\r\n";
+
+    private final ClienteRepository clienteRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public ClienteExportServiceImpl(ClienteRepository clienteRepository, EntityManager entityManager,
+                                    ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.clienteRepository = clienteRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    // Cada linha é escrita assim que lida do cursor e a entidade é desanexada em seguida:
+    // a memória usada não depende do tamanho da tabela
+    @Override
+    public void exportar(Formato formato, OutputStream out) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            try (Stream<Cliente> clientes = clienteRepository.streamAllOrderById()) {
+                if (formato == Formato.CSV) {
+                    escreverCsv(clientes, writer);
+                } else {
+                    escreverNdjson(clientes, writer);
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void escreverCsv(Stream<Cliente> clientes, Writer writer) throws IOException {
+        writer.write(CABECALHO_CSV);
+        for (Cliente cliente : (Iterable<Cliente>) clientes::iterator) {
+            writer.write(String.valueOf(cliente.getId()));
+            writer.write(',');
+            writer.write(cliente.getCpf());
+            writer.write(',');
+            escreverCampoCsv(writer, cliente.getNome());
+            writer.write(',');
+            writer.write(formatar(cliente.getDataNascimento(), DateTimeFormatter.ISO_LOCAL_DATE));
+            writer.write(',');
+            escreverCampoCsv(writer, cliente.getEmail());
+            writer.write(',');
+            writer.write(formatar(cliente.getCreatedAt(), DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            writer.write("\r\n");
+            entityManager.detach(cliente);
+        }
+    }
+
+    private void escreverNdjson(Stream<Cliente> clientes, Writer writer) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(writer)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.setRootValueSeparator(null);
+            for (Cliente cliente : (Iterable<Cliente>) clientes::iterator) {
+                json.writeStartObject();
+                json.writeNumberField("id", cliente.getId());
+                json.writeStringField("cpf", cliente.getCpf());
+                json.writeStringField("nome", cliente.getNome());
+                json.writeStringField("dataNascimento", formatarOuNull(cliente.getDataNascimento(), DateTimeFormatter.ISO_LOCAL_DATE));
+                json.writeStringField("email", cliente.getEmail());
+                json.writeStringField("createdAt", formatarOuNull(cliente.getCreatedAt(), DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+                json.writeEndObject();
+                json.writeRaw('\n');
+                entityManager.detach(cliente);
+            }
+        }
+    }
+
+    // RFC 4180: aspas apenas quando o valor contém separador, aspas ou quebra de linha
+    private static void escreverCampoCsv(Writer writer, String valor) throws IOException {
+        if (valor == null) {
+            return;
+        }
+        boolean precisaAspas = false;
+        for (int i = 0; i < valor.length() && !precisaAspas; i++) {
+            char c = valor.charAt(i);
+            precisaAspas = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!precisaAspas) {
+            writer.write(valor);
+            return;
+        }
+        writer.write('"');
+        writer.write(valor.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String formatar(TemporalAccessor valor, DateTimeFormatter formatter) {
+        return valor == null ? "" : formatter.format(valor);
+    }
+
+    private static String formatarOuNull(TemporalAccessor valor, DateTimeFormatter formatter) {
+        return valor == null ? null : formatter.format(valor);
+    }
+}
@@ -0,0 +1,10 @@
+package com.neoapp.service;
+
+import com.neoapp.dto.ClienteImportResultDTO;
+
+import java.io.InputStream;
+
+public interface ClienteImportService {
+    ClienteImportResultDTO importarJson(InputStream json);
+    ClienteImportResultDTO importarNdjson(InputStream ndjson);
+}
@@ -0,0 +1,276 @@
+package com.neoapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neoapp.dto.ClienteImportItemDTO;
+import com.neoapp.dto.ClienteImportResultDTO;
+import com.neoapp.dto.ClienteMapper;
+import com.neoapp.dto.ClienteRequestDTO;
+import com.neoapp.exception.ErrorCode;
+import com.neoapp.model.Cliente;
+import com.neoapp.repository.ClienteRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class ClienteImportServiceImpl implements ClienteImportService {
+
+    private final ClienteRepository clienteRepository;
+    private final ClienteMapper mapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClienteUnicidadeFiltro unicidadeFiltro;
+    private final int chunkSize;
+
+    public ClienteImportServiceImpl(ClienteRepository clienteRepository, ClienteMapper mapper, Validator validator,
+                                    ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                                    EntityManager entityManager, ApplicationEventPublisher eventPublisher,
+                                    ClienteUnicidadeFiltro unicidadeFiltro,
+                                    @Value("${clientes.import.chunk-size:500}") int chunkSize) {
+        this.clienteRepository = clienteRepository;
+        this.mapper = mapper;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.unicidadeFiltro = unicidadeFiltro;
+        this.chunkSize = chunkSize;
+    }
+
+    // Array JSON lido de forma incremental; um registro malformado encerra a leitura,
+    // pois não há como ressincronizar dentro do array
+    @Override
+    public ClienteImportResultDTO importarJson(InputStream json) {
+        Importacao importacao = new Importacao();
+        try (MappingIterator<ClienteRequestDTO> registros = objectMapper.readerFor(ClienteRequestDTO.class).readValues(json)) {
+            int numero = 0;
+            while (true) {
+                try {
+                    if (!registros.hasNextValue()) {
+                        break;
+                    }
+                    importacao.adicionar(new Linha(++numero, registros.nextValue()));
+                } catch (JsonProcessingException e) {
+                    importacao.adicionar(new Linha(++numero, null));
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return importacao.concluir();
+    }
+
+    // Um cliente por linha: linhas malformadas são rejeitadas individualmente
+    @Override
+    public ClienteImportResultDTO importarNdjson(InputStream ndjson) {
+        Importacao importacao = new Importacao();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            int numero = 0;
+            String conteudo;
+            while ((conteudo = reader.readLine()) != null) {
+                numero++;
+                if (conteudo.isBlank()) {
+                    continue;
+                }
+                ClienteRequestDTO dto;
+                try {
+                    dto = objectMapper.readValue(conteudo, ClienteRequestDTO.class);
+                } catch (JsonProcessingException e) {
+                    dto = null;
+                }
+                importacao.adicionar(new Linha(numero, dto));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return importacao.concluir();
+    }
+
+    private record Linha(int numero, ClienteRequestDTO dto) {
+    }
+
+    private record Candidato(int linha, ClienteRequestDTO dto, Cliente cliente) {
+    }
+
+    // Estado de uma importação: lotes de `chunkSize` linhas, cada um gravado numa transação própria
+    private class Importacao {
+
+        private final List<Linha> pendentes = new ArrayList<>(chunkSize);
+        private final List<ClienteImportItemDTO> itens = new ArrayList<>();
+        private final Set<String> cpfsVistos = new HashSet<>();
+        private final Set<String> emailsVistos = new HashSet<>();
+        private int inseridos;
+
+        void adicionar(Linha linha) {
+            pendentes.add(linha);
+            if (pendentes.size() >= chunkSize) {
+                processarLote();
+            }
+        }
+
+        ClienteImportResultDTO concluir() {
+            processarLote();
+            return new ClienteImportResultDTO(itens.size(), inseridos, itens.size() - inseridos, itens);
+        }
+
+        private void processarLote() {
+            if (pendentes.isEmpty()) {
+                return;
+            }
+            List<ClienteImportItemDTO> resultados = new ArrayList<>(pendentes.size());
+            List<Candidato> candidatos = validar(resultados);
+            candidatos = descartarExistentes(candidatos, resultados);
+            gravar(candidatos, resultados);
+
+            resultados.sort(Comparator.comparingInt(ClienteImportItemDTO::linha));
+            itens.addAll(resultados);
+            pendentes.clear();
+        }
+
+        // Bean validation + duplicidade dentro do próprio arquivo
+        private List<Candidato> validar(List<ClienteImportItemDTO> resultados) {
+            List<Candidato> candidatos = new ArrayList<>(pendentes.size());
+            for (Linha linha : pendentes) {
+                if (linha.dto() == null) {
+                    resultados.add(rejeitado(linha.numero(), null, ErrorCode.BAD_FORMAT_JSON));
+                    continue;
+                }
+                Set<ConstraintViolation<ClienteRequestDTO>> violacoes = validator.validate(linha.dto());
+                if (!violacoes.isEmpty()) {
+                    resultados.add(ClienteImportItemDTO.rejeitado(linha.numero(), linha.dto().cpf(),
+                            ErrorCode.VALIDATION_ERROR.name(), descrever(violacoes)));
+                    continue;
+                }
+                Cliente cliente = mapper.toEntity(linha.dto());
+                if (cpfsVistos.contains(cliente.getCpf())) {
+                    resultados.add(rejeitado(linha.numero(), cliente.getCpf(), ErrorCode.CPF_ALREADY_EXISTS));
+                    continue;
+                }
+                if (emailsVistos.contains(cliente.getEmail())) {
+                    resultados.add(rejeitado(linha.numero(), cliente.getCpf(), ErrorCode.EMAIL_ALREADY_EXISTS));
+                    continue;
+                }
+                cpfsVistos.add(cliente.getCpf());
+                emailsVistos.add(cliente.getEmail());
+                candidatos.add(new Candidato(linha.numero(), linha.dto(), cliente));
+            }
+            return candidatos;
+        }
+
+        // Uma consulta por chave única para o lote inteiro, em vez de duas por cliente, e só com as chaves
+        // que o filtro de unicidade não descarta: num lote só de clientes novos, nenhuma consulta
+        private List<Candidato> descartarExistentes(List<Candidato> candidatos, List<ClienteImportItemDTO> resultados) {
+            if (candidatos.isEmpty()) {
+                return candidatos;
+            }
+            List<String> cpfs = candidatos.stream().map(c -> c.cliente().getCpf())
+                    .filter(unicidadeFiltro::cpfPodeExistir).toList();
+            List<String> emails = candidatos.stream().map(c -> c.cliente().getEmail())
+                    .filter(unicidadeFiltro::emailPodeExistir).toList();
+            Set<String> cpfsExistentes = cpfs.isEmpty() ? Set.of() : clienteRepository.findCpfsExistentes(cpfs);
+            Set<String> emailsExistentes = emails.isEmpty() ? Set.of() : clienteRepository.findEmailsExistentes(emails);
+            unicidadeFiltro.registrarConfirmacao(ClienteUnicidadeFiltro.Chave.CPF, cpfs.size(), cpfsExistentes.size());
+            unicidadeFiltro.registrarConfirmacao(ClienteUnicidadeFiltro.Chave.EMAIL, emails.size(), emailsExistentes.size());
+
+            List<Candidato> novos = new ArrayList<>(candidatos.size());
+            for (Candidato candidato : candidatos) {
+                String cpf = candidato.cliente().getCpf();
+                String email = candidato.cliente().getEmail();
+                if (cpfsExistentes.contains(cpf)) {
+                    emailsVistos.remove(email);
+                    resultados.add(rejeitado(candidato.linha(), cpf, ErrorCode.CPF_ALREADY_EXISTS));
+                } else if (emailsExistentes.contains(email)) {
+                    cpfsVistos.remove(cpf);
+                    resultados.add(rejeitado(candidato.linha(), cpf, ErrorCode.EMAIL_ALREADY_EXISTS));
+                } else {
+                    novos.add(candidato);
+                }
+            }
+            return novos;
+        }
+
+        private void gravar(List<Candidato> candidatos, List<ClienteImportItemDTO> resultados) {
+            if (candidatos.isEmpty()) {
+                return;
+            }
+            LocalDateTime agora = LocalDateTime.now();
+            candidatos.forEach(c -> c.cliente().setCreatedAt(agora));
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    // Com ids de sequence o INSERT só sai no flush: pelo repositório, para a violação de
+                    // constraint chegar traduzida como DataIntegrityViolationException
+                    clienteRepository.saveAll(candidatos.stream().map(Candidato::cliente).toList());
+                    clienteRepository.flush();
+                    candidatos.forEach(c -> eventPublisher.publishEvent(ClienteEvent.salvo(mapper.toDto(c.cliente()))));
+                    entityManager.clear();
+                });
+            } catch (DataIntegrityViolationException e) {
+                // Outra requisição gravou o mesmo CPF/email depois da verificação: o lote é refeito linha a linha
+                gravarIndividualmente(candidatos, agora, resultados);
+                return;
+            }
+            for (Candidato candidato : candidatos) {
+                resultados.add(ClienteImportItemDTO.inserido(candidato.linha(), candidato.cliente().getCpf(), candidato.cliente().getId()));
+            }
+            inseridos += candidatos.size();
+        }
+
+        private void gravarIndividualmente(List<Candidato> candidatos, LocalDateTime agora, List<ClienteImportItemDTO> resultados) {
+            for (Candidato candidato : candidatos) {
+                // Entidades do lote que falhou já receberam id: recria a partir do DTO
+                Cliente cliente = mapper.toEntity(candidato.dto());
+                cliente.setCreatedAt(agora);
+                try {
+                    Cliente salvo = transactionTemplate.execute(status -> {
+                        Cliente gravado = clienteRepository.saveAndFlush(cliente);
+                        eventPublisher.publishEvent(ClienteEvent.salvo(mapper.toDto(gravado)));
+                        return gravado;
+                    });
+                    resultados.add(ClienteImportItemDTO.inserido(candidato.linha(), cliente.getCpf(), salvo.getId()));
+                    inseridos++;
+                } catch (DataIntegrityViolationException e) {
+                    ErrorCode erro = ClienteUniqueConstraints.errorCodeFor(e).orElse(ErrorCode.UNEXPECTED_ERROR);
+                    resultados.add(rejeitado(candidato.linha(), cliente.getCpf(), erro));
+                }
+            }
+        }
+
+        private ClienteImportItemDTO rejeitado(int linha, String cpf, ErrorCode erro) {
+            return ClienteImportItemDTO.rejeitado(linha, cpf, erro.name(), erro.getMensagem());
+        }
+
+        private String descrever(Set<ConstraintViolation<ClienteRequestDTO>> violacoes) {
+            return violacoes.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+    }
+}
@@ -1,17 +1,27 @@
 package com.neoapp.service;
 
+import com.neoapp.dto.ClientePatchDTO;
 import com.neoapp.dto.ClienteRequestDTO;
 import com.neoapp.dto.ClienteResponseDTO;
+import com.neoapp.dto.CursorPageDTO;
+import com.neoapp.search.ModoBusca;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface ClienteService {
     ClienteResponseDTO criarCliente(ClienteRequestDTO dto);
-    ClienteResponseDTO atualizarCliente(Long id, ClienteRequestDTO dto);
+    // versaoEsperada: versão vinda do If-Match; null grava sem pré-condição
+    ClienteResponseDTO atualizarCliente(Long id, ClienteRequestDTO dto, Long versaoEsperada);
+    default ClienteResponseDTO atualizarCliente(Long id, ClienteRequestDTO dto) {
+        return atualizarCliente(id, dto, null);
+    }
+    ClienteResponseDTO atualizarParcialmente(Long id, ClientePatchDTO patch, Long versaoEsperada);
     void deletarCliente(Long id);
     ClienteResponseDTO buscarPorCpf(String cpf);
     ClienteResponseDTO buscarPorId(Long id);
     Page<ClienteResponseDTO> listarClientes(Pageable pageable);
-    Page<ClienteResponseDTO> listarPorNome(String nome, Pageable pageable);
+    Page<ClienteResponseDTO> listarPorNome(String nome, ModoBusca modo, Pageable pageable);
+    CursorPageDTO<ClienteResponseDTO> listarClientes(String after, int size);
+    CursorPageDTO<ClienteResponseDTO> listarPorNome(String nome, String after, int size);
 
 }
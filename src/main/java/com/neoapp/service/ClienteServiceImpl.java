@@ -1,84 +1,196 @@
 package com.neoapp.service;
 
+import com.neoapp.cache.ClienteCache;
 import com.neoapp.dto.ClienteMapper;
+import com.neoapp.dto.ClientePatchDTO;
 import com.neoapp.dto.ClienteRequestDTO;
 import com.neoapp.dto.ClienteResponseDTO;
+import com.neoapp.dto.CursorPageDTO;
 import com.neoapp.exception.BusinessRuleException;
+import com.neoapp.exception.ConflictException;
 import com.neoapp.exception.ErrorCode;
+import com.neoapp.exception.PreconditionFailedException;
 import com.neoapp.exception.ResourceNotFoundException;
 import com.neoapp.model.Cliente;
 import com.neoapp.repository.ClienteRepository;
+import com.neoapp.search.ClienteNomeSearch;
+import com.neoapp.search.ModoBusca;
+import com.neoapp.search.NomeNormalizer;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
+// Por padrão, transação somente-leitura: sessão com FlushMode.MANUAL, entidades carregadas sem snapshot
+// para dirty checking e Connection.setReadOnly(true) (que, com réplica configurada, roteia para ela).
+// Cada gravação é uma única transação read-write, com as leituras de que depende.
+// Cada método público tem seu timer: clientes.service{class, method, exception}
 @Service
+@Timed("clientes.service")
+@Transactional(readOnly = true)
 public class ClienteServiceImpl implements ClienteService{
 
+    static final int MAX_CURSOR_SIZE = 100;
+
     private final ClienteRepository clienteRepository;
     private final ClienteMapper mapper;
+    private final ClienteNomeSearch nomeSearch;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClienteCache clienteCache;
+    private final Validator validator;
 
-    public ClienteServiceImpl(ClienteRepository clienteRepository, ClienteMapper mapper) {
+    public ClienteServiceImpl(ClienteRepository clienteRepository, ClienteMapper mapper, ClienteNomeSearch nomeSearch,
+                              ApplicationEventPublisher eventPublisher, ClienteCache clienteCache, Validator validator) {
         this.clienteRepository = clienteRepository;
         this.mapper = mapper;
+        this.nomeSearch = nomeSearch;
+        this.eventPublisher = eventPublisher;
+        this.clienteCache = clienteCache;
+        this.validator = validator;
     }
 
     @Override
+    @Transactional
     public ClienteResponseDTO criarCliente(ClienteRequestDTO dto) {
-        if (clienteRepository.findByCpf(dto.cpf()).isPresent()) {
-            throw new BusinessRuleException(ErrorCode.CPF_ALREADY_EXISTS);
-        }
-        if(clienteRepository.findByEmail(dto.email()).isPresent()){
-            throw new BusinessRuleException(ErrorCode.EMAIL_ALREADY_EXISTS);
-        }
         Cliente cliente = mapper.toEntity(dto);
         cliente.setCreatedAt(LocalDateTime.now());
-        Cliente salvo = clienteRepository.save(cliente);
-        return mapper.toDto(salvo);
+        Cliente salvo = salvarVerificandoUnicidade(cliente);
+        ClienteResponseDTO response = mapper.toDto(salvo);
+        eventPublisher.publishEvent(ClienteEvent.salvo(response));
+        return response;
     }
 
-    public ClienteResponseDTO atualizarCliente(Long id, ClienteRequestDTO dto) {
+    // Sem lock: o update leva `where version = ?`, e quem perde a corrida recebe 409 (ou 412, se veio com If-Match)
+    @Override
+    @Transactional
+    public ClienteResponseDTO atualizarCliente(Long id, ClienteRequestDTO dto, Long versaoEsperada) {
         Cliente cliente = clienteRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.CLIENTE_NOT_FOUND));
-        clienteRepository.findByCpf(dto.cpf())
-                .filter(c -> !c.getId().equals(id))
-                        .ifPresent(c -> {throw new BusinessRuleException(ErrorCode.CPF_ALREADY_EXISTS);});
-        clienteRepository.findByEmail(dto.email())
-                .filter(c -> !c.getId().equals(id))
-                        .ifPresent(c -> {throw new BusinessRuleException(ErrorCode.EMAIL_ALREADY_EXISTS);});
+        verificarVersao(cliente, versaoEsperada);
         //  Alterações em dados imutáveis não são ideais. No entanto, como este sistema de cadastro faz pesquisa de cadastros
         //  entendo que ele seria usado pela própria empresa que cadastra e erros podem ocorrer no momento do cadastro, temos varias abordagens:
         //  exclusão do registro e novo cadastro do cliente,
         //  atualização que pode ser controlada com validação, alteração via login de administrador,
         //  ou registro de logs de alterações.
         //  Para nosso caso vou permitir a atualização de todos os campos.
+        String cpfAnterior = cliente.getCpf();
         mapper.updateClienteFromDto(dto, cliente);
-        Cliente atualizado = clienteRepository.save(cliente);
-        return mapper.toDto(atualizado);
+        return gravarAtualizacao(cliente, cpfAnterior, versaoEsperada);
+    }
+
+    // Merge patch dentro de uma transação: a entidade fica gerenciada e, com @DynamicUpdate, o UPDATE
+    // leva só as colunas alteradas. Unicidade só é verificada (pela constraint) se CPF/email mudaram.
+    @Override
+    @Transactional
+    public ClienteResponseDTO atualizarParcialmente(Long id, ClientePatchDTO patch, Long versaoEsperada) {
+        validar(patch);
+        Cliente cliente = clienteRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.CLIENTE_NOT_FOUND));
+        verificarVersao(cliente, versaoEsperada);
+        String cpfAnterior = cliente.getCpf();
+        mapper.patchCliente(patch, cliente);
+        return gravarAtualizacao(cliente, cpfAnterior, versaoEsperada);
+    }
+
+    // Mesmas regras do ClienteRequestDTO, aplicadas apenas aos campos presentes no patch
+    private void validar(ClientePatchDTO patch) {
+        Set<ConstraintViolation<ClienteRequestDTO>> violacoes = new HashSet<>();
+        for (String campo : patch.campos()) {
+            violacoes.addAll(validator.validateProperty(patch.valores(), campo));
+        }
+        if (!violacoes.isEmpty()) {
+            throw new ConstraintViolationException(violacoes);
+        }
+    }
+
+    private void verificarVersao(Cliente cliente, Long versaoEsperada) {
+        if (versaoEsperada != null && !versaoEsperada.equals(versaoAtual(cliente))) {
+            throw new PreconditionFailedException(ErrorCode.CLIENTE_VERSION_MISMATCH);
+        }
+    }
+
+    private ClienteResponseDTO gravarAtualizacao(Cliente cliente, String cpfAnterior, Long versaoEsperada) {
+        Cliente atualizado;
+        try {
+            atualizado = salvarVerificandoUnicidade(cliente);
+        } catch (OptimisticLockingFailureException ex) {
+            throw versaoEsperada != null
+                    ? new PreconditionFailedException(ErrorCode.CLIENTE_VERSION_MISMATCH)
+                    : new ConflictException(ErrorCode.CLIENTE_UPDATE_CONFLICT);
+        }
+        ClienteResponseDTO response = mapper.toDto(atualizado);
+        eventPublisher.publishEvent(ClienteEvent.atualizado(response, cpfAnterior));
+        return response;
+    }
+
+    // Linhas anteriores à coluna `version` ficam com null até a primeira gravação
+    private static long versaoAtual(Cliente cliente) {
+        return cliente.getVersion() == null ? 0 : cliente.getVersion();
     }
 
+    // CPF e email duplicados são detectados pelas constraints únicas de `clients` no próprio insert/update:
+    // evita as consultas prévias e fecha a janela de corrida entre a verificação e a gravação
+    private Cliente salvarVerificandoUnicidade(Cliente cliente) {
+        try {
+            return clienteRepository.saveAndFlush(cliente);
+        } catch (DataIntegrityViolationException ex) {
+            throw ClienteUniqueConstraints.errorCodeFor(ex)
+                    .<RuntimeException>map(BusinessRuleException::new)
+                    .orElse(ex);
+        }
+    }
+
+    @Transactional
     public void deletarCliente(Long id) {
         if (!clienteRepository.existsById(id)) {
             throw new ResourceNotFoundException(ErrorCode.CLIENTE_NOT_FOUND);
         }
         clienteRepository.deleteById(id);
+        eventPublisher.publishEvent(ClienteEvent.removido(id));
     }
 
+    // Leituras por CPF/id passam pelo cache; gravações invalidam via ClienteEvent (ClienteCacheInvalidation).
+    // SUPPORTS: um acerto no cache não abre transação nem pega conexão do pool; na falta, a consulta
+    // roda na transação somente-leitura do próprio repositório
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public ClienteResponseDTO buscarPorCpf(String cpf) {
-        Cliente cliente = clienteRepository.findByCpf(cpf).orElseThrow(() -> new ResourceNotFoundException(ErrorCode.CLIENTE_NOT_FOUND));
-        return mapper.toDto(cliente);
+        return clienteCache.porCpf(cpf).orElseGet(() -> {
+            Cliente cliente = clienteRepository.findByCpf(cpf).orElseThrow(() -> new ResourceNotFoundException(ErrorCode.CLIENTE_NOT_FOUND));
+            return armazenar(cliente);
+        });
     }
 
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public ClienteResponseDTO buscarPorId(Long id) {
-        Cliente cliente = clienteRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException(ErrorCode.CLIENTE_NOT_FOUND));
-        return mapper.toDto(cliente);
+        return clienteCache.porId(id).orElseGet(() -> {
+            Cliente cliente = clienteRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException(ErrorCode.CLIENTE_NOT_FOUND));
+            return armazenar(cliente);
+        });
+    }
+
+    private ClienteResponseDTO armazenar(Cliente cliente) {
+        ClienteResponseDTO dto = mapper.toDto(cliente);
+        clienteCache.put(dto);
+        return dto;
     }
 
-    // Busca por nome (parcial, paginada)
-    public Page<ClienteResponseDTO> listarPorNome(String nome, Pageable pageable) {
-        return clienteRepository.findByNomeContainingIgnoreCase(nome, pageable)
+    // Busca por nome (paginada), sem diferenciar acentos e maiúsculas
+    public Page<ClienteResponseDTO> listarPorNome(String nome, ModoBusca modo, Pageable pageable) {
+        return nomeSearch.buscar(nome, modo, pageable)
                 .map(mapper::toDto);
     }
 
@@ -87,5 +199,44 @@ public class ClienteServiceImpl implements ClienteService{
         return clienteRepository.findAll(pageable).map(mapper::toDto);
     }
 
+    // Listagem por cursor, ordenada por (nome, id)
+    public CursorPageDTO<ClienteResponseDTO> listarClientes(String after, int size) {
+        int limite = limitarTamanho(size);
+        List<Cliente> clientes;
+        if (after == null || after.isBlank()) {
+            clientes = clienteRepository.findPrimeiros(Limit.of(limite + 1));
+        } else {
+            ClienteCursor cursor = ClienteCursor.decode(after);
+            clientes = clienteRepository.findApos(cursor.nome(), cursor.id(), Limit.of(limite + 1));
+        }
+        return paginaCursor(clientes, limite);
+    }
+
+    // Busca por nome (parcial) com cursor
+    public CursorPageDTO<ClienteResponseDTO> listarPorNome(String nome, String after, int size) {
+        int limite = limitarTamanho(size);
+        List<Cliente> clientes;
+        String termo = NomeNormalizer.normalizar(nome);
+        if (after == null || after.isBlank()) {
+            clientes = clienteRepository.findPrimeirosPorNome(termo, Limit.of(limite + 1));
+        } else {
+            ClienteCursor cursor = ClienteCursor.decode(after);
+            clientes = clienteRepository.findAposPorNome(termo, cursor.nome(), cursor.id(), Limit.of(limite + 1));
+        }
+        return paginaCursor(clientes, limite);
+    }
+
+    private static int limitarTamanho(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_SIZE));
+    }
+
+    // Busca-se um registro a mais que o pedido só para saber se existe próxima página
+    private CursorPageDTO<ClienteResponseDTO> paginaCursor(List<Cliente> clientes, int limite) {
+        boolean hasNext = clientes.size() > limite;
+        List<Cliente> pagina = hasNext ? clientes.subList(0, limite) : clientes;
+        String nextCursor = hasNext ? ClienteCursor.apos(pagina.get(pagina.size() - 1)).encode() : null;
+        return new CursorPageDTO<>(pagina.stream().map(mapper::toDto).toList(), pagina.size(), hasNext, nextCursor);
+    }
+
 
 }
@@ -0,0 +1,206 @@
+package com.neoapp.service;
+
+import com.neoapp.model.CpfConverter;
+import com.neoapp.repository.ClienteRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+// Filtros de Bloom sobre os CPFs e emails (normalizados) já cadastrados: quando o filtro responde "ausente",
+// a consulta de unicidade no banco é dispensada; "talvez" segue para o banco. As constraints únicas de
+// `clients` continuam sendo a garantia final (outra instância, ou um evento ainda não entregue, pode ter gravado).
+// Montado na subida e reconstruído periodicamente: chaves removidas ou trocadas só saem do filtro na reconstrução.
+@Component
+public class ClienteUnicidadeFiltro {
+
+    private static final Logger log = LoggerFactory.getLogger(ClienteUnicidadeFiltro.class);
+
+    public enum Chave { CPF, EMAIL }
+
+    private final ClienteRepository clienteRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean habilitado;
+    private final double fpp;
+    private final double folga;
+
+    // Nulo até a primeira construção: enquanto isso, toda chave "pode existir"
+    private volatile Filtros atual;
+    // Durante uma reconstrução os eventos vão também para o filtro novo
+    private volatile Filtros emConstrucao;
+
+    private final Map<Chave, LongAdder> ausentes = new EnumMap<>(Chave.class);
+    private final Map<Chave, LongAdder> possiveis = new EnumMap<>(Chave.class);
+    private final Map<Chave, LongAdder> falsosPositivos = new EnumMap<>(Chave.class);
+    private volatile long duracaoReconstrucaoMs;
+
+    public ClienteUnicidadeFiltro(ClienteRepository clienteRepository, PlatformTransactionManager transactionManager,
+                                  @Value("${clientes.uniqueness-filter.enabled:true}") boolean habilitado,
+                                  @Value("${clientes.uniqueness-filter.fpp:0.01}") double fpp,
+                                  @Value("${clientes.uniqueness-filter.growth-factor:1.5}") double folga) {
+        this.clienteRepository = clienteRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.habilitado = habilitado;
+        this.fpp = fpp;
+        this.folga = folga;
+        for (Chave chave : Chave.values()) {
+            ausentes.put(chave, new LongAdder());
+            possiveis.put(chave, new LongAdder());
+            falsosPositivos.put(chave, new LongAdder());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void construirNaSubida() {
+        if (habilitado) {
+            reconstruir();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${clientes.uniqueness-filter.rebuild-interval:PT6H}",
+            initialDelayString = "${clientes.uniqueness-filter.rebuild-interval:PT6H}")
+    public void reconstruirPeriodicamente() {
+        if (habilitado) {
+            reconstruir();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ClienteEvent evento) {
+        if (!habilitado || evento.tipo() == ClienteEvent.Tipo.REMOVIDO) {
+            return;
+        }
+        // Lê emConstrucao antes de atual: um evento nunca fica de fora dos dois na troca
+        Filtros novo = emConstrucao;
+        Filtros vigente = atual;
+        if (novo != null) {
+            novo.adicionar(evento.cliente().cpf(), evento.cliente().email());
+        }
+        if (vigente != null) {
+            vigente.adicionar(evento.cliente().cpf(), evento.cliente().email());
+        }
+    }
+
+    // Dimensionado pela contagem atual com folga para crescer; monta o filtro novo fora do caminho
+    // das consultas (que seguem no atual) e troca no final
+    public synchronized void reconstruir() {
+        long inicio = System.nanoTime();
+        long capacidade = (long) (clienteRepository.count() * folga) + 1_000;
+        Filtros novo = new Filtros(capacidade, fpp);
+        emConstrucao = novo;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<ClienteRepository.ChavesUnicas> chaves = clienteRepository.streamChavesUnicas()) {
+                    chaves.forEach(c -> novo.adicionar(c.getCpf(), c.getEmail()));
+                }
+            });
+            atual = novo;
+        } finally {
+            emConstrucao = null;
+        }
+        duracaoReconstrucaoMs = (System.nanoTime() - inicio) / 1_000_000;
+        log.info("Filtro de unicidade reconstruído: {} CPFs, {} KB por filtro, em {} ms",
+                novo.cpfs.elementos(), novo.cpfs.tamanhoBytes() / 1024, duracaoReconstrucaoMs);
+    }
+
+    public boolean cpfPodeExistir(String cpf) {
+        Filtros filtros = atual;
+        return filtros == null || registrar(Chave.CPF, filtros.cpfs.podeConter(hashCpf(cpf)));
+    }
+
+    public boolean emailPodeExistir(String email) {
+        Filtros filtros = atual;
+        return filtros == null || registrar(Chave.EMAIL, filtros.emails.podeConter(hashEmail(email)));
+    }
+
+    // Resultado da consulta ao banco para as chaves em que o filtro respondeu "talvez"
+    public void registrarConfirmacao(Chave chave, int consultadas, int encontradas) {
+        if (atual != null) {
+            falsosPositivos.get(chave).add(consultadas - encontradas);
+        }
+    }
+
+    private boolean registrar(Chave chave, boolean podeExistir) {
+        (podeExistir ? possiveis : ausentes).get(chave).increment();
+        return podeExistir;
+    }
+
+    public long tamanhoBytes(Chave chave) {
+        Filtros filtros = atual;
+        return filtros == null ? 0 : filtros.filtro(chave).tamanhoBytes();
+    }
+
+    public long elementos(Chave chave) {
+        Filtros filtros = atual;
+        return filtros == null ? 0 : filtros.filtro(chave).elementos();
+    }
+
+    public double fppEstimada(Chave chave) {
+        Filtros filtros = atual;
+        return filtros == null ? 0 : filtros.filtro(chave).fppEstimada();
+    }
+
+    public long ausentes(Chave chave) {
+        return ausentes.get(chave).sum();
+    }
+
+    public long possiveis(Chave chave) {
+        return possiveis.get(chave).sum();
+    }
+
+    public long falsosPositivos(Chave chave) {
+        return falsosPositivos.get(chave).sum();
+    }
+
+    public long getDuracaoReconstrucaoMs() {
+        return duracaoReconstrucaoMs;
+    }
+
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+
+    // CPF pelo valor numérico (o mesmo da coluna); fora do formato, pelo texto
+    private static long hashCpf(String cpf) {
+        long numero = CpfConverter.numero(cpf);
+        return numero >= 0 ? BloomFilter.misturar(numero) : BloomFilter.hash(cpf);
+    }
+
+    // A constraint compara o email exato; normalizar só pode gerar "talvez" a mais, nunca um "ausente" errado
+    private static long hashEmail(String email) {
+        return BloomFilter.hash(email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static final class Filtros {
+
+        private final BloomFilter cpfs;
+        private final BloomFilter emails;
+
+        Filtros(long capacidade, double fpp) {
+            this.cpfs = new BloomFilter(capacidade, fpp);
+            this.emails = new BloomFilter(capacidade, fpp);
+        }
+
+        void adicionar(String cpf, String email) {
+            cpfs.adicionar(hashCpf(cpf));
+            emails.adicionar(hashEmail(email));
+        }
+
+        BloomFilter filtro(Chave chave) {
+            return chave == Chave.CPF ? cpfs : emails;
+        }
+    }
+}
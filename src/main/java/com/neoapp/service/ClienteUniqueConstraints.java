@@ -0,0 +1,38 @@
+package com.neoapp.service;
+
+import com.neoapp.exception.ErrorCode;
+import com.neoapp.model.Cliente;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+import java.util.Optional;
+
+// Identifica qual constraint única de `clients` foi violada num insert/update
+final class ClienteUniqueConstraints {
+
+    private ClienteUniqueConstraints() {
+    }
+
+    static Optional<ErrorCode> errorCodeFor(DataIntegrityViolationException ex) {
+        String violada = nomeDaConstraint(ex);
+        if (violada.contains(Cliente.UK_CPF)) {
+            return Optional.of(ErrorCode.CPF_ALREADY_EXISTS);
+        }
+        if (violada.contains(Cliente.UK_EMAIL)) {
+            return Optional.of(ErrorCode.EMAIL_ALREADY_EXISTS);
+        }
+        return Optional.empty();
+    }
+
+    private static String nomeDaConstraint(DataIntegrityViolationException ex) {
+        for (Throwable causa = ex; causa != null; causa = causa.getCause()) {
+            if (causa instanceof ConstraintViolationException cve && cve.getConstraintName() != null) {
+                return cve.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        // Alguns drivers não expõem o nome: ele sempre aparece na mensagem do banco
+        String mensagem = ex.getMostSpecificCause().getMessage();
+        return mensagem == null ? "" : mensagem.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,10 @@
+package com.neoapp.service;
+
+import com.neoapp.dto.DocumentoValidacaoResultDTO;
+
+import java.io.InputStream;
+
+public interface DocumentoValidacaoService {
+    DocumentoValidacaoResultDTO validarJson(InputStream json);
+    DocumentoValidacaoResultDTO validarLinhas(InputStream linhas);
+}
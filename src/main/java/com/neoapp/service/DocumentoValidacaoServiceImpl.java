@@ -0,0 +1,142 @@
+package com.neoapp.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neoapp.dto.DocumentoInvalidoDTO;
+import com.neoapp.dto.DocumentoValidacaoResultDTO;
+import com.neoapp.exception.BusinessRuleException;
+import com.neoapp.exception.ErrorCode;
+import com.neoapp.validation.Documentos;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// Validação de CPF/CNPJ em lote. O corpo é lido em streaming e acumulado em blocos; blocos grandes
+// são validados em paralelo (ForkJoinPool comum), e a memória usada não depende do tamanho da entrada.
+@Service
+public class DocumentoValidacaoServiceImpl implements DocumentoValidacaoService {
+
+    private static final int BLOCO = 16_384;
+    // Abaixo disso dividir o trabalho entre threads custa mais do que validar
+    private static final int MINIMO_PARALELO = 2_048;
+
+    private final ObjectMapper objectMapper;
+    private final int maxInvalidosListados;
+
+    public DocumentoValidacaoServiceImpl(ObjectMapper objectMapper,
+                                         @Value("${clientes.documentos.max-invalidos-listados:1000}") int maxInvalidosListados) {
+        this.objectMapper = objectMapper;
+        this.maxInvalidosListados = maxInvalidosListados;
+    }
+
+    // Array JSON de strings; qualquer outro valor no array conta como inválido
+    @Override
+    public DocumentoValidacaoResultDTO validarJson(InputStream json) {
+        Validacao validacao = new Validacao();
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BusinessRuleException(ErrorCode.BAD_FORMAT_JSON);
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new BusinessRuleException(ErrorCode.BAD_FORMAT_JSON);
+                }
+                if (token.isStructStart()) {
+                    parser.skipChildren();
+                    validacao.adicionar("");
+                } else {
+                    validacao.adicionar(token == JsonToken.VALUE_STRING ? parser.getText() : parser.getValueAsString(""));
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new BusinessRuleException(ErrorCode.BAD_FORMAT_JSON);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return validacao.concluir();
+    }
+
+    // Um documento por linha (texto puro ou NDJSON com strings); linhas em branco são ignoradas
+    @Override
+    public DocumentoValidacaoResultDTO validarLinhas(InputStream linhas) {
+        Validacao validacao = new Validacao();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(linhas, StandardCharsets.UTF_8))) {
+            String linha;
+            while ((linha = reader.readLine()) != null) {
+                String valor = linha.strip();
+                if (valor.isEmpty()) {
+                    continue;
+                }
+                if (valor.length() >= 2 && valor.charAt(0) == '"' && valor.charAt(valor.length() - 1) == '"') {
+                    valor = valor.substring(1, valor.length() - 1);
+                }
+                validacao.adicionar(valor);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return validacao.concluir();
+    }
+
+    private class Validacao {
+
+        private final String[] bloco = new String[BLOCO];
+        private final Documentos.Tipo[] tipos = new Documentos.Tipo[BLOCO];
+        private final List<DocumentoInvalidoDTO> primeirosInvalidos = new ArrayList<>();
+        private int pendentes;
+        private long total;
+        private long cpfs;
+        private long cnpjs;
+        private long invalidos;
+
+        void adicionar(String valor) {
+            bloco[pendentes++] = valor;
+            if (pendentes == BLOCO) {
+                validarBloco();
+            }
+        }
+
+        DocumentoValidacaoResultDTO concluir() {
+            validarBloco();
+            return new DocumentoValidacaoResultDTO(total, cpfs, cnpjs, invalidos, primeirosInvalidos);
+        }
+
+        private void validarBloco() {
+            int quantidade = pendentes;
+            IntStream indices = IntStream.range(0, quantidade);
+            if (quantidade >= MINIMO_PARALELO) {
+                indices = indices.parallel();
+            }
+            indices.forEach(i -> tipos[i] = Documentos.tipo(bloco[i]));
+
+            for (int i = 0; i < quantidade; i++) {
+                Documentos.Tipo tipo = tipos[i];
+                if (tipo == Documentos.Tipo.CPF) {
+                    cpfs++;
+                } else if (tipo == Documentos.Tipo.CNPJ) {
+                    cnpjs++;
+                } else {
+                    invalidos++;
+                    if (primeirosInvalidos.size() < maxInvalidosListados) {
+                        primeirosInvalidos.add(new DocumentoInvalidoDTO(total + i, bloco[i]));
+                    }
+                }
+                bloco[i] = null;
+            }
+            total += quantidade;
+            pendentes = 0;
+        }
+    }
+}
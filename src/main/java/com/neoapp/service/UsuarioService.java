@@ -5,4 +5,5 @@ import com.neoapp.dto.UsuarioResponseDTO;
 
 public interface UsuarioService {
     UsuarioResponseDTO registrarNovoUsuario(RegisterRequestDTO registerRequest);
+    void revogarTokens(String username);
 }
\ No newline at end of file
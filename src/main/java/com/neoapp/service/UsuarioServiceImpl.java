@@ -5,8 +5,11 @@ import com.neoapp.dto.RegisterRequestDTO;
 import com.neoapp.dto.UsuarioResponseDTO;
 import com.neoapp.exception.BusinessRuleException;
 import com.neoapp.exception.ErrorCode;
+import com.neoapp.exception.ResourceNotFoundException;
 import com.neoapp.model.Usuario;
 import com.neoapp.repository.UsuarioRepository;
+import com.neoapp.security.AppUserDetailsService;
+import com.neoapp.security.TokenRevocationRegistry;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -15,10 +18,15 @@ public class UsuarioServiceImpl implements UsuarioService {
 
     private final UsuarioRepository usuarioRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationRegistry revocationRegistry;
+    private final AppUserDetailsService userDetailsService;
 
-    public UsuarioServiceImpl(UsuarioRepository usuarioRepository, PasswordEncoder passwordEncoder) {
+    public UsuarioServiceImpl(UsuarioRepository usuarioRepository, PasswordEncoder passwordEncoder,
+                              TokenRevocationRegistry revocationRegistry, AppUserDetailsService userDetailsService) {
         this.usuarioRepository = usuarioRepository;
         this.passwordEncoder = passwordEncoder;
+        this.revocationRegistry = revocationRegistry;
+        this.userDetailsService = userDetailsService;
     }
 
     @Override
@@ -32,6 +40,18 @@ public class UsuarioServiceImpl implements UsuarioService {
         novoUsuario.setPassword(passwordEncoder.encode(registerRequest.password()));
 
         Usuario salvo = usuarioRepository.save(novoUsuario);
+        // Remove uma eventual entrada negativa ("usuário inexistente") do cache de autenticação
+        userDetailsService.evict(salvo.getUsername());
         return new UsuarioResponseDTO(salvo.getUsername());
     }
-}
\ No newline at end of file
+
+    @Override
+    public void revogarTokens(String username) {
+        Usuario usuario = usuarioRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USUARIO_NOT_FOUND));
+        usuario.setTokenVersion(usuario.getTokenVersion() + 1);
+        usuarioRepository.save(usuario);
+        userDetailsService.evict(username);
+        revocationRegistry.revogar(username, usuario.getTokenVersion());
+    }
+}
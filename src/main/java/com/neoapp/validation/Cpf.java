@@ -10,6 +10,8 @@ import java.lang.annotation.*;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Cpf {
     String message() default "CPF inválido";
+    // true: aceita também 000.000.000-00 (quem grava deve normalizar para os 11 dígitos)
+    boolean mascara() default false;
     Class<?>[] groups() default {};
     Class<? extends Payload>[] payload() default {};
 }
\ No newline at end of file
@@ -0,0 +1,152 @@
+package com.neoapp.validation;
+
+// Validação de CPF e CNPJ numa única passada pelos caracteres, sem alocação (sem regex, stream ou cópia da string).
+// Aceita só os dígitos ou a máscara usual: 000.000.000-00 e 00.000.000/0000-00.
+// CNPJ alfanumérico (IN RFB 2.229/2024): as 12 primeiras posições podem ser A-Z, com valor = código ASCII - 48.
+public final class Documentos {
+
+    public enum Tipo { CPF, CNPJ }
+
+    private static final int[] PESOS_CNPJ = {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+
+    private Documentos() {
+    }
+
+    // CPF ou CNPJ, pelo tamanho e pela máscara; null se não for um documento válido
+    public static Tipo tipo(CharSequence valor) {
+        if (valor == null) {
+            return null;
+        }
+        return switch (valor.length()) {
+            case 11 -> cpf(valor, false) ? Tipo.CPF : null;
+            case 14 -> valor.charAt(3) == '.' ? (cpf(valor, true) ? Tipo.CPF : null) : (cnpj(valor, false) ? Tipo.CNPJ : null);
+            case 18 -> cnpj(valor, true) ? Tipo.CNPJ : null;
+            default -> null;
+        };
+    }
+
+    public static boolean cpfValido(CharSequence valor, boolean aceitarMascara) {
+        if (valor == null) {
+            return false;
+        }
+        int tamanho = valor.length();
+        return tamanho == 11 ? cpf(valor, false) : aceitarMascara && tamanho == 14 && cpf(valor, true);
+    }
+
+    public static boolean cnpjValido(CharSequence valor, boolean aceitarMascara) {
+        if (valor == null) {
+            return false;
+        }
+        int tamanho = valor.length();
+        return tamanho == 14 ? cnpj(valor, false) : aceitarMascara && tamanho == 18 && cnpj(valor, true);
+    }
+
+    // Os dois dígitos verificadores são acumulados na mesma passada; 11 dígitos iguais são inválidos
+    private static boolean cpf(CharSequence valor, boolean mascara) {
+        int soma1 = 0;
+        int soma2 = 0;
+        int primeiro = -1;
+        boolean repetidos = true;
+        int posicao = 0;
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (mascara) {
+                char separador = separadorCpf(i);
+                if (separador != 0) {
+                    if (c != separador) {
+                        return false;
+                    }
+                    continue;
+                }
+            }
+            int d = c - '0';
+            if (d < 0 || d > 9) {
+                return false;
+            }
+            if (posicao == 0) {
+                primeiro = d;
+            } else if (d != primeiro) {
+                repetidos = false;
+            }
+            if (posicao < 9) {
+                soma1 += d * (10 - posicao);
+                soma2 += d * (11 - posicao);
+            } else if (posicao == 9) {
+                if (d != digitoVerificador(soma1)) {
+                    return false;
+                }
+                soma2 += d * 2;
+            } else {
+                return !repetidos && d == digitoVerificador(soma2);
+            }
+            posicao++;
+        }
+        return false;
+    }
+
+    private static boolean cnpj(CharSequence valor, boolean mascara) {
+        int soma1 = 0;
+        int soma2 = 0;
+        int primeiro = -1;
+        boolean repetidos = true;
+        int posicao = 0;
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (mascara) {
+                char separador = separadorCnpj(i);
+                if (separador != 0) {
+                    if (c != separador) {
+                        return false;
+                    }
+                    continue;
+                }
+            }
+            // Dígitos verificadores são sempre numéricos; a raiz e a ordem podem ter letras maiúsculas
+            int v = c - '0';
+            boolean numerico = v >= 0 && v <= 9;
+            if (!numerico && (posicao >= 12 || c < 'A' || c > 'Z')) {
+                return false;
+            }
+            if (posicao == 0) {
+                primeiro = v;
+            } else if (v != primeiro) {
+                repetidos = false;
+            }
+            if (posicao < 12) {
+                soma1 += v * PESOS_CNPJ[posicao + 1];
+                soma2 += v * PESOS_CNPJ[posicao];
+            } else if (posicao == 12) {
+                if (v != digitoVerificador(soma1)) {
+                    return false;
+                }
+                soma2 += v * PESOS_CNPJ[12];
+            } else {
+                return !repetidos && v == digitoVerificador(soma2);
+            }
+            posicao++;
+        }
+        return false;
+    }
+
+    private static char separadorCpf(int i) {
+        return switch (i) {
+            case 3, 7 -> '.';
+            case 11 -> '-';
+            default -> 0;
+        };
+    }
+
+    private static char separadorCnpj(int i) {
+        return switch (i) {
+            case 2, 6 -> '.';
+            case 10 -> '/';
+            case 15 -> '-';
+            default -> 0;
+        };
+    }
+
+    private static int digitoVerificador(int soma) {
+        int resto = soma % 11;
+        return resto < 2 ? 0 : 11 - resto;
+    }
+}
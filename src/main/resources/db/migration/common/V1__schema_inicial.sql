@@ -0,0 +1,33 @@
+-- Schema inicial de clientes e usuários (até aqui gerado pelo ddl-auto).
+-- SQL comum a PostgreSQL e H2 (MODE=PostgreSQL, perfis local e test); o que é específico
+-- de um banco fica em db/migration/{vendor}.
+
+-- Incremento igual ao allocationSize de Cliente (otimizador pooled)
+create sequence clients_seq start with 1 increment by 50;
+
+create table clients (
+    cliente_id      bigint       not null,
+    cpf             varchar(11)  not null,
+    nome            varchar(100) not null,
+    nome_busca      varchar(100),
+    data_nascimento date         not null,
+    email           varchar(150) not null,
+    created_at      timestamp(6),
+    version         bigint       default 0 not null,
+    constraint pk_clients primary key (cliente_id),
+    constraint uk_clients_cpf unique (cpf),
+    constraint uk_clients_email unique (email)
+);
+
+-- Paginação por cursor (nome, id) e busca por prefixo sobre o nome normalizado
+create index idx_clients_nome_id on clients (nome, cliente_id);
+create index idx_clients_nome_busca on clients (nome_busca, cliente_id);
+
+create table usuarios (
+    id            bigint generated by default as identity,
+    username      varchar(50)  not null,
+    password      varchar(255) not null,
+    token_version integer      not null,
+    constraint pk_usuarios primary key (id),
+    constraint uk_usuarios_username unique (username)
+);
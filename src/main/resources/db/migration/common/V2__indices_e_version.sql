@@ -0,0 +1,10 @@
+-- Bancos adotados via baseline (criados pelo antigo ddl-auto) podem ter version nula
+-- e não ter os índices das buscas; em bancos criados pela V1 nada muda.
+update clients set version = 0 where version is null;
+alter table clients alter column version set default 0;
+alter table clients alter column version set not null;
+
+-- Listagem paginada (@PageableDefault sort=nome) e paginação por cursor: order by nome, cliente_id
+create index if not exists idx_clients_nome_id on clients (nome, cliente_id);
+-- Busca PREFIXO: nome_busca like 'x%' order by nome_busca, cliente_id
+create index if not exists idx_clients_nome_busca on clients (nome_busca, cliente_id);
@@ -0,0 +1,7 @@
+-- CPF passa de varchar(11) para bigint (CpfConverter devolve os 11 dígitos com zeros à esquerda).
+-- O índice de uk_clients_cpf é reconstruído com chaves de 8 bytes.
+-- No PostgreSQL o alter reescreve a tabela sob lock exclusivo: em bases grandes, aplicar numa janela de manutenção.
+-- Uma linha com CPF não numérico faz a migração falhar (e nada é alterado): corrija-a antes.
+alter table clients alter column cpf set data type bigint using cast(cpf as bigint);
+
+alter table clients add constraint ck_clients_cpf check (cpf between 0 and 99999999999);
@@ -0,0 +1,5 @@
+-- Busca por nome (ClienteNomeSearch): o índice GIN de trigramas atende LIKE '%x%', 'x%' e o operador % (FUZZY).
+-- pg_trgm é extensão "trusted" desde o PostgreSQL 13: o dono do banco pode criá-la.
+create extension if not exists pg_trgm;
+
+create index if not exists idx_clients_nome_busca_trgm on clients using gin (nome_busca gin_trgm_ops);
@@ -0,0 +1,4 @@
+-- Com a collation padrão (ex.: en_US.UTF-8) um btree não atende LIKE 'x%'.
+-- nome_busca só contém [a-z0-9 ] (NomeNormalizer), então a ordem binária da collation "C" é a ordem esperada:
+-- com ela, idx_clients_nome_busca atende o filtro e a ordenação da busca PREFIXO. Os índices da coluna são reconstruídos.
+alter table clients alter column nome_busca type varchar(100) collate "C";
@@ -0,0 +1,21 @@
+package com.neoapp;
+
+// Gera CPFs válidos para massas de teste
+public final class CpfGenerator {
+
+    private CpfGenerator() {
+    }
+
+    // Completa os 9 primeiros dígitos (`base`) com os dígitos verificadores
+    public static String cpf(int base) {
+        String digitos = String.format("%09d", base);
+        int soma = 0;
+        for (int i = 0; i < 9; i++) soma += (digitos.charAt(i) - '0') * (10 - i);
+        int d1 = 11 - soma % 11 >= 10 ? 0 : 11 - soma % 11;
+        digitos += d1;
+        soma = 0;
+        for (int i = 0; i < 10; i++) soma += (digitos.charAt(i) - '0') * (11 - i);
+        int d2 = 11 - soma % 11 >= 10 ? 0 : 11 - soma % 11;
+        return digitos + d2;
+    }
+}
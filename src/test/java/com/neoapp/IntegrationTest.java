@@ -0,0 +1,21 @@
+package com.neoapp;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Contexto completo sobre o H2 do perfil de teste, compartilhado entre as classes de integração
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest(properties = {
+        "jwt.secret=dGVzdGUtc2VjcmV0LWp3dC1jbGllbnRlcy1hcGktMzItYnl0ZXMtbWluaW1v",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "clientes.search-index.enabled=true"
+})
+@ActiveProfiles("test")
+public @interface IntegrationTest {
+}
@@ -0,0 +1,52 @@
+package com.neoapp.cache;
+
+import com.neoapp.dto.ClienteResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CaffeineClienteCacheTest {
+
+    private CaffeineClienteCache cache;
+    private ClienteResponseDTO cliente;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CaffeineClienteCache(100, Duration.ofMinutes(1));
+        cliente = new ClienteResponseDTO(1L, "68691814039", "Fulano", LocalDate.of(1990, 1, 1), "f@email.com", LocalDateTime.now());
+    }
+
+    @Test
+    void put_disponibilizaPorIdEPorCpf() {
+        cache.put(cliente);
+
+        assertEquals(cliente, cache.porId(1L).orElseThrow());
+        assertEquals(cliente, cache.porCpf("68691814039").orElseThrow());
+        assertEquals(2, cache.porIdStats().hitCount());
+    }
+
+    @Test
+    void porCpf_cpfTrocadoSemInvalidacao_naoDevolveOutroCliente() {
+        cache.put(cliente);
+        ClienteResponseDTO novoCpf = new ClienteResponseDTO(1L, "52998224725", "Fulano", cliente.dataNascimento(), cliente.email(), cliente.createdAt());
+        cache.put(novoCpf);
+
+        assertTrue(cache.porCpf("68691814039").isEmpty());
+        assertEquals(novoCpf, cache.porCpf("52998224725").orElseThrow());
+    }
+
+    @Test
+    void invalidar_removeIdEOsCpfsInformados() {
+        cache.put(cliente);
+
+        cache.invalidar(1L, "68691814039");
+
+        assertTrue(cache.porId(1L).isEmpty());
+        assertTrue(cache.porCpf("68691814039").isEmpty());
+    }
+}
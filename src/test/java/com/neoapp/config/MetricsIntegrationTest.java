@@ -0,0 +1,81 @@
+package com.neoapp.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neoapp.dto.RegisterRequestDTO;
+import com.neoapp.service.UsuarioService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Métricas expostas em /actuator/prometheus (registry Prometheus real, não o simples dos testes)
+@SpringBootTest(properties = {
+        "jwt.secret=dGVzdGUtc2VjcmV0LWp3dC1jbGllbnRlcy1hcGktMzItYnl0ZXMtbWluaW1v",
+        // Banco próprio: o contexto das demais classes de integração usa jdbc:h2:mem:testdb
+        "spring.datasource.url=jdbc:h2:mem:metrics;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Um login e um GET com erro de negócio: o scrape do Prometheus traz endpoint, service, repositório, ErrorCode e JWT
+    @Test
+    void prometheus_expoeMetricasDaRequisicaoAteORepositorio() throws Exception {
+        usuarioService.registrarNovoUsuario(new RegisterRequestDTO("metricas", "senha123"));
+        String login = mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"metricas\",\"password\":\"senha123\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readTree(login).get("token").asText();
+        mockMvc.perform(get("/clientes/{id}", 999_999L).header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isNotFound());
+
+        // Sem token: o scrape é liberado na SecurityConfig
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertAll(
+                () -> assertContem(scrape, "http_server_requests_seconds_bucket{", "uri=\"/clientes/{id}\""),
+                () -> assertContem(scrape, "http_server_requests_seconds_count{", "uri=\"/api/auth/login\""),
+                () -> assertContem(scrape, "clientes_service_seconds_bucket{", "method=\"buscarPorId\""),
+                () -> assertContem(scrape, "spring_data_repository_invocations_seconds_count{", "method=\"findById\",repository=\"ClienteRepository\""),
+                () -> assertContem(scrape, "spring_data_repository_invocations_seconds_count{", "method=\"findByUsername\",repository=\"UsuarioRepository\""),
+                () -> assertContem(scrape, "clientes_errors_total{", "code=\"CLIENTE_NOT_FOUND\"} 1.0"),
+                () -> assertContem(scrape, "jwt_issue_seconds_count{", "type=\"access\"} 1"),
+                () -> assertContem(scrape, "jwt_verify_seconds_count{", "result=\"verified\"} 1"),
+                () -> assertContem(scrape, "cache_gets_total{", "cache=\"jwt.verifiedTokens\",result=\"miss\"} 1.0"),
+                () -> assertContem(scrape, "cache_evictions_total{", "cache=\"jwt.revocations\""),
+                () -> assertContem(scrape, "hikaricp_connections_active{", ""),
+                () -> assertContem(scrape, "executor_queued_tasks{", "name=\"password-hash\""),
+                () -> assertContem(scrape, "clientes_uniqueness_filter_size_bytes{", "key=\"cpf\""),
+                () -> assertContem(scrape, "clientes_uniqueness_filter_checks_total{", "key=\"email\",result=\"absent\"")
+        );
+    }
+
+    private static void assertContem(String scrape, String metrica, String trecho) {
+        assertTrue(scrape.lines().anyMatch(linha -> linha.startsWith(metrica) && linha.contains(trecho)),
+                () -> metrica + " com " + trecho + " ausente do scrape");
+    }
+}
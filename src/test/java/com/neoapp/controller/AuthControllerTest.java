@@ -2,38 +2,39 @@ package com.neoapp.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.neoapp.dto.AuthRequestDTO;
+import com.neoapp.dto.AuthResponseDTO;
+import com.neoapp.dto.RefreshTokenRequestDTO;
 import com.neoapp.dto.RegisterRequestDTO;
 import com.neoapp.dto.UsuarioResponseDTO;
 import com.neoapp.exception.BusinessRuleException;
 import com.neoapp.exception.ErrorCode;
 import com.neoapp.security.JwtUtil;
+import com.neoapp.security.TokenRevocationRegistry;
+import com.neoapp.service.AuthService;
 import com.neoapp.service.UsuarioService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
-import java.util.Collections;
-
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AuthController.class)
+@Import(SimpleMeterRegistry.class) // Registry para os contadores do GlobalExceptionHandler
 @AutoConfigureMockMvc(addFilters = false) // Desabilita os filtros de segurança para focar no controller
 class AuthControllerTest {
 
@@ -44,7 +45,7 @@ class AuthControllerTest {
     private ObjectMapper objectMapper;
 
     @MockitoBean
-    private AuthenticationManager authenticationManager;
+    private AuthService authService;
 
     @MockitoBean
     private UserDetailsService userDetailsService;
@@ -52,6 +53,9 @@ class AuthControllerTest {
     @MockitoBean
     private JwtUtil jwtUtil;
 
+    @MockitoBean
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
     @MockitoBean
     private UsuarioService usuarioService;
 
@@ -112,15 +116,14 @@ class AuthControllerTest {
         void login_comCredenciaisValidas_deveRetornarToken() throws Exception {
 
             AuthRequestDTO authRequest = new AuthRequestDTO("usuarioValido", "senhaCorreta");
-            UserDetails userDetails = new User("usuarioValido", "senhaCriptografada", Collections.emptyList());
-            when(userDetailsService.loadUserByUsername("usuarioValido")).thenReturn(userDetails);
-            when(jwtUtil.generateToken(userDetails)).thenReturn("meu-token-jwt-fake");
+            when(authService.login(authRequest)).thenReturn(new AuthResponseDTO("meu-token-jwt-fake", "meu-refresh-fake"));
 
             mockMvc.perform(post("/api/auth/login")
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(authRequest)))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.token").value("meu-token-jwt-fake"));
+                    .andExpect(jsonPath("$.token").value("meu-token-jwt-fake"))
+                    .andExpect(jsonPath("$.refreshToken").value("meu-refresh-fake"));
         }
 
         @Test
@@ -128,8 +131,8 @@ class AuthControllerTest {
         void login_comCredenciaisInvalidas_deveRetornar401() throws Exception {
 
             AuthRequestDTO authRequest = new AuthRequestDTO("usuarioValido", "senhaErrada");
-            doThrow(new BadCredentialsException("Credenciais inválidas"))
-                    .when(authenticationManager).authenticate(any());
+            when(authService.login(any(AuthRequestDTO.class)))
+                    .thenThrow(new BadCredentialsException("Credenciais inválidas"));
 
             mockMvc.perform(post("/api/auth/login")
                             .contentType(MediaType.APPLICATION_JSON)
@@ -142,7 +145,7 @@ class AuthControllerTest {
         void login_quandoUsuarioNaoEncontrado_deveRetornar401() throws Exception {
 
             AuthRequestDTO authRequest = new AuthRequestDTO("usuarioInexistente", "senha123");
-            when(userDetailsService.loadUserByUsername("usuarioInexistente"))
+            when(authService.login(authRequest))
                     .thenThrow(new UsernameNotFoundException("Usuário não encontrado"));
 
             mockMvc.perform(post("/api/auth/login")
@@ -162,5 +165,19 @@ class AuthControllerTest {
                             .content(objectMapper.writeValueAsString(requestInvalida)))
                     .andExpect(status().isBadRequest());
         }
+
+        @Test
+        @DisplayName("Deve trocar um refresh token válido por um novo par de tokens")
+        void refresh_comTokenValido_deveRetornarNovosTokens() throws Exception {
+
+            RefreshTokenRequestDTO refreshRequest = new RefreshTokenRequestDTO("refresh-valido");
+            when(authService.refresh(refreshRequest)).thenReturn(new AuthResponseDTO("novo-token", "novo-refresh"));
+
+            mockMvc.perform(post("/api/auth/refresh")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(refreshRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.token").value("novo-token"));
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,27 @@
 package com.neoapp.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neoapp.dto.ClienteImportItemDTO;
+import com.neoapp.dto.ClienteImportResultDTO;
+import com.neoapp.dto.ClientePatchDTO;
 import com.neoapp.dto.ClienteRequestDTO;
 import com.neoapp.dto.ClienteResponseDTO;
+import com.neoapp.dto.CursorPageDTO;
+import com.neoapp.dto.DocumentoInvalidoDTO;
+import com.neoapp.dto.DocumentoValidacaoResultDTO;
 import com.neoapp.exception.BusinessRuleException;
+import com.neoapp.exception.ConflictException;
 import com.neoapp.exception.ErrorCode;
 import com.neoapp.exception.ResourceNotFoundException;
 import com.neoapp.security.JwtUtil;
+import com.neoapp.security.TokenRevocationRegistry;
+import com.neoapp.service.ClienteExportService;
+import com.neoapp.service.ClienteImportService;
 import com.neoapp.service.ClienteService;
+import com.neoapp.service.DocumentoValidacaoService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,28 +29,41 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ClienteController.class)
 @AutoConfigureMockMvc(addFilters = false) // Desabilita filtros de segurança para focar no controller
+@Import({ClienteJsonMemo.class, SimpleMeterRegistry.class}) // Registry para os contadores do GlobalExceptionHandler
 class ClienteControllerTest {
 
     @Autowired
@@ -45,12 +72,27 @@ class ClienteControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private Validator validator;
+
     @MockitoBean
     private ClienteService clienteService;
 
+    @MockitoBean
+    private ClienteImportService clienteImportService;
+
+    @MockitoBean
+    private ClienteExportService clienteExportService;
+
+    @MockitoBean
+    private DocumentoValidacaoService documentoValidacaoService;
+
     @MockitoBean
     private JwtUtil jwtUtil;
 
+    @MockitoBean
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
     @MockitoBean
     private UserDetailsService userDetailsService;
 
@@ -73,7 +115,8 @@ class ClienteControllerTest {
                 "Fulano de Tal",
                 LocalDate.of(1990, 1, 15),
                 "fulano@email.com",
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                3L
         );
     }
 
@@ -122,7 +165,7 @@ class ClienteControllerTest {
         @DisplayName("Deve atualizar um cliente com sucesso e retornar status 200")
         void atualizar_comDadosValidos_deveRetornar200() throws Exception {
             // ARRANGE
-            when(clienteService.atualizarCliente(anyLong(), any(ClienteRequestDTO.class))).thenReturn(clienteResponseDTO);
+            when(clienteService.atualizarCliente(anyLong(), any(ClienteRequestDTO.class), isNull())).thenReturn(clienteResponseDTO);
 
             // ACT & ASSERT
             mockMvc.perform(put("/clientes/{id}", 1L)
@@ -136,7 +179,7 @@ class ClienteControllerTest {
         @DisplayName("Não deve atualizar cliente inexistente e deve retornar status 404")
         void atualizar_comIdInexistente_deveRetornar404() throws Exception {
             // ARRANGE
-            when(clienteService.atualizarCliente(anyLong(), any(ClienteRequestDTO.class)))
+            when(clienteService.atualizarCliente(anyLong(), any(ClienteRequestDTO.class), isNull()))
                     .thenThrow(new ResourceNotFoundException(ErrorCode.CLIENTE_NOT_FOUND));
 
             // ACT & ASSERT
@@ -145,6 +188,88 @@ class ClienteControllerTest {
                             .content(objectMapper.writeValueAsString(clienteRequestDTO)))
                     .andExpect(status().isNotFound());
         }
+
+        @Test
+        @DisplayName("Deve repassar a versão do If-Match ao serviço e devolver o novo ETag")
+        void atualizar_comIfMatch_deveRepassarVersao() throws Exception {
+            // ARRANGE
+            when(clienteService.atualizarCliente(eq(1L), any(ClienteRequestDTO.class), eq(2L))).thenReturn(clienteResponseDTO);
+
+            // ACT & ASSERT
+            mockMvc.perform(put("/clientes/{id}", 1L)
+                            .header(HttpHeaders.IF_MATCH, "\"1-2-35\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(clienteRequestDTO)))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, ClienteEtags.etag(clienteResponseDTO)));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 412 para If-Match fraco ou de outro cliente, sem chamar o serviço")
+        void atualizar_comIfMatchInvalido_deveRetornar412() throws Exception {
+            for (String ifMatch : List.of("W/\"1-2-35\"", "\"7-2-35\"", "\"abc\"")) {
+                mockMvc.perform(put("/clientes/{id}", 1L)
+                                .header(HttpHeaders.IF_MATCH, ifMatch)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(clienteRequestDTO)))
+                        .andExpect(status().isPreconditionFailed())
+                        .andExpect(jsonPath("$.code").value(ErrorCode.CLIENTE_VERSION_MISMATCH.name()));
+            }
+            verify(clienteService, never()).atualizarCliente(anyLong(), any(ClienteRequestDTO.class), any());
+        }
+
+        @Test
+        @DisplayName("Deve aplicar merge patch só com os campos enviados")
+        void atualizarParcialmente_comMergePatch_deveRetornar200() throws Exception {
+            // ARRANGE
+            when(clienteService.atualizarParcialmente(eq(1L), any(ClientePatchDTO.class), isNull())).thenReturn(clienteResponseDTO);
+
+            // ACT & ASSERT
+            mockMvc.perform(patch("/clientes/{id}", 1L)
+                            .contentType("application/merge-patch+json")
+                            .content("{\"email\":\" novo@email.com \"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.ETAG));
+            verify(clienteService).atualizarParcialmente(eq(1L),
+                    argThat(p -> p.campos().equals(Set.of("email")) && p.valores().email().equals("novo@email.com")), isNull());
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para campo desconhecido ou valor inválido no patch")
+        void atualizarParcialmente_comPatchInvalido_deveRetornar400() throws Exception {
+            // ARRANGE
+            when(clienteService.atualizarParcialmente(eq(1L), any(ClientePatchDTO.class), isNull()))
+                    .thenThrow(new ConstraintViolationException(validator.validateProperty(
+                            new ClienteRequestDTO(null, null, null, "invalido"), "email")));
+
+            // ACT & ASSERT
+            mockMvc.perform(patch("/clientes/{id}", 1L)
+                            .contentType("application/merge-patch+json")
+                            .content("{\"id\":5}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(ErrorCode.BAD_FORMAT_JSON.name()));
+            mockMvc.perform(patch("/clientes/{id}", 1L)
+                            .contentType("application/merge-patch+json")
+                            .content("{\"email\":\"invalido\"}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(ErrorCode.VALIDATION_ERROR.name()))
+                    .andExpect(jsonPath("$.data.email").exists());
+        }
+
+        @Test
+        @DisplayName("Deve retornar 409 quando outra requisição alterou o cliente durante a atualização")
+        void atualizar_comConflitoDeVersao_deveRetornar409() throws Exception {
+            // ARRANGE
+            when(clienteService.atualizarCliente(anyLong(), any(ClienteRequestDTO.class), isNull()))
+                    .thenThrow(new ConflictException(ErrorCode.CLIENTE_UPDATE_CONFLICT));
+
+            // ACT & ASSERT
+            mockMvc.perform(put("/clientes/{id}", 1L)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(clienteRequestDTO)))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.code").value(ErrorCode.CLIENTE_UPDATE_CONFLICT.name()));
+        }
     }
 
 
@@ -172,6 +297,43 @@ class ClienteControllerTest {
                 .andExpect(jsonPath("$.data.id", is(1)));
     }
 
+    @Test
+    @DisplayName("Deve devolver ETag e o mesmo JSON enquanto o serviço devolver o cliente em cache")
+    void buscarPorId_clienteEmCache_deveUsarJsonMemorizado() throws Exception {
+        // ARRANGE: num acerto do ClienteCache o serviço devolve sempre a mesma instância
+        when(clienteService.buscarPorId(1L)).thenReturn(clienteResponseDTO);
+        String etag = ClienteEtags.etag(clienteResponseDTO);
+
+        // ACT & ASSERT
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/clientes/{id}", 1L))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag))
+                    .andExpect(jsonPath("$.success", is(true)))
+                    .andExpect(jsonPath("$.data.nome", is("Fulano de Tal")))
+                    .andExpect(jsonPath("$.data.idade").isNumber())
+                    .andExpect(jsonPath("$.data.version").doesNotExist());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retornar 304 quando o If-None-Match corresponde à versão atual")
+    void buscarPorCpf_comIfNoneMatchAtual_deveRetornar304() throws Exception {
+        // ARRANGE
+        when(clienteService.buscarPorCpf("68691814039")).thenReturn(clienteResponseDTO);
+        String etag = mockMvc.perform(get("/clientes/cpf/{cpf}", "68691814039"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // ACT & ASSERT
+        mockMvc.perform(get("/clientes/cpf/{cpf}", "68691814039").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/clientes/cpf/{cpf}", "68691814039").header(HttpHeaders.IF_NONE_MATCH, "\"1-2-0\""))
+                .andExpect(status().isOk());
+    }
+
     @Test
     @DisplayName("Deve listar todos os clientes de forma paginada e retornar status 200")
     void listarTodos_deveRetornarPaginaDeClientes() throws Exception {
@@ -185,4 +347,87 @@ class ClienteControllerTest {
                 .andExpect(jsonPath("$.data.content", hasSize(1)))
                 .andExpect(jsonPath("$.data.content[0].nome", is("Fulano de Tal")));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve importar clientes em NDJSON e retornar o relatório por linha")
+    void importarNdjson_deveRetornarRelatorio() throws Exception {
+        // ARRANGE
+        ClienteImportResultDTO relatorio = new ClienteImportResultDTO(2, 1, 1, List.of(
+                ClienteImportItemDTO.inserido(1, "68691814039", 1L),
+                ClienteImportItemDTO.rejeitado(2, "68691814039", ErrorCode.CPF_ALREADY_EXISTS.name(), ErrorCode.CPF_ALREADY_EXISTS.getMensagem())));
+        when(clienteImportService.importarNdjson(any())).thenReturn(relatorio);
+
+        // ACT & ASSERT
+        mockMvc.perform(post("/clientes/batch")
+                        .contentType("application/x-ndjson")
+                        .content(objectMapper.writeValueAsString(clienteRequestDTO) + "\n" + objectMapper.writeValueAsString(clienteRequestDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.inseridos", is(1)))
+                .andExpect(jsonPath("$.data.itens[1].code", is(ErrorCode.CPF_ALREADY_EXISTS.name())));
+    }
+
+    @Test
+    @DisplayName("Deve validar documentos em lote e retornar o resumo")
+    void validarDocumentos_deveRetornarResumo() throws Exception {
+        // ARRANGE
+        DocumentoValidacaoResultDTO resumo = new DocumentoValidacaoResultDTO(3, 1, 1, 1,
+                List.of(new DocumentoInvalidoDTO(2, "12345678900")));
+        when(documentoValidacaoService.validarJson(any())).thenReturn(resumo);
+
+        // ACT & ASSERT
+        mockMvc.perform(post("/clientes/cpf/validar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"68691814039\", \"11.222.333/0001-81\", \"12345678900\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.total", is(3)))
+                .andExpect(jsonPath("$.data.invalidos", is(1)))
+                .andExpect(jsonPath("$.data.primeirosInvalidos[0].posicao", is(2)));
+        verify(documentoValidacaoService, never()).validarLinhas(any());
+    }
+
+    @Test
+    @DisplayName("Deve exportar clientes em streaming no formato pedido")
+    void exportar_deveEscreverCorpoEmStreaming() throws Exception {
+        // ARRANGE
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(clienteExportService).exportar(eq(ClienteExportService.Formato.NDJSON), any());
+
+        // ACT
+        MvcResult result = mockMvc.perform(get("/clientes/export").param("formato", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // ASSERT
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"clientes.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para formato de exportação desconhecido")
+    void exportar_formatoInvalido_deveRetornarBadRequest() throws Exception {
+        mockMvc.perform(get("/clientes/export").param("formato", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(ErrorCode.INVALID_INPUT.name()));
+    }
+
+    @Test
+    @DisplayName("Deve listar clientes por cursor sem total de registros")
+    void listarTodosCursor_deveRetornarProximoCursor() throws Exception {
+        // ARRANGE
+        when(clienteService.listarClientes("abc", 1))
+                .thenReturn(new CursorPageDTO<>(List.of(clienteResponseDTO), 1, true, "def"));
+
+        // ACT & ASSERT
+        mockMvc.perform(get("/clientes/cursor").param("after", "abc").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.hasNext", is(true)))
+                .andExpect(jsonPath("$.data.nextCursor", is("def")))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+    }
+}
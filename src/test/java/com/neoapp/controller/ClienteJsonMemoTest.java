@@ -0,0 +1,44 @@
+package com.neoapp.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.neoapp.dto.ClienteResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClienteJsonMemoTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ClienteResponseDTO cliente =
+            new ClienteResponseDTO(1L, "68691814039", "Fulano", LocalDate.of(1990, 1, 1), "f@email.com", LocalDateTime.now());
+
+    @Test
+    void corpo_mesmaInstancia_serializaUmaVez() {
+        ClienteJsonMemo memo = new ClienteJsonMemo(objectMapper, true, 100);
+
+        Object corpo = memo.corpo(cliente);
+
+        assertSame(corpo, memo.corpo(cliente));
+        assertTrue(((RawValue) corpo).rawValue().toString().contains("\"nome\":\"Fulano\""));
+    }
+
+    // Chave por identidade: um DTO igual mas novo (entrada do ClienteCache recriada) é serializado de novo
+    @Test
+    void corpo_instanciaNovaIgual_naoReusaJson() {
+        ClienteJsonMemo memo = new ClienteJsonMemo(objectMapper, true, 100);
+        ClienteResponseDTO igual = new ClienteResponseDTO(cliente.id(), cliente.cpf(), cliente.nome(),
+                cliente.dataNascimento(), cliente.email(), cliente.createdAt());
+
+        assertNotSame(memo.corpo(cliente), memo.corpo(igual));
+    }
+
+    @Test
+    void corpo_desabilitado_devolveODto() {
+        assertSame(cliente, new ClienteJsonMemo(objectMapper, false, 100).corpo(cliente));
+    }
+}
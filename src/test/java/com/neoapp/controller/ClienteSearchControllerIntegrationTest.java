@@ -0,0 +1,110 @@
+package com.neoapp.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neoapp.dto.RegisterRequestDTO;
+import com.neoapp.repository.ClienteRepository;
+import com.neoapp.repository.UsuarioRepository;
+import com.neoapp.search.ClienteSearchIndex;
+import com.neoapp.service.UsuarioService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// POST /clientes/search/rebuild com a cadeia de segurança real: só security.admin-users e uma reconstrução por vez
+@SpringBootTest(properties = {
+        "jwt.secret=dGVzdGUtc2VjcmV0LWp3dC1jbGllbnRlcy1hcGktMzItYnl0ZXMtbWluaW1v",
+        "spring.datasource.url=jdbc:h2:mem:searchadmin;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "clientes.search-index.enabled=true",
+        "security.admin-users=admin"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ClienteSearchControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private ClienteSearchIndex searchIndex;
+
+    @MockitoSpyBean
+    private ClienteRepository clienteRepository;
+
+    private String admin;
+    private String comum;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        admin = token("admin");
+        comum = token("comum");
+    }
+
+    @Test
+    void rebuild_exigeAdmin() throws Exception {
+        mockMvc.perform(post("/clientes/search/rebuild").header(HttpHeaders.AUTHORIZATION, "Bearer " + comum))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/clientes/search/rebuild").header(HttpHeaders.AUTHORIZATION, "Bearer " + admin))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void rebuild_comOutraEmAndamento_retorna409() throws Exception {
+        CountDownLatch iniciou = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        // A reconstrução em andamento para na leitura da tabela até a segunda ser recusada
+        doAnswer(invocacao -> {
+            iniciou.countDown();
+            liberar.await(10, TimeUnit.SECONDS);
+            return Stream.empty();
+        }).when(clienteRepository).streamAllOrderById();
+        CompletableFuture<?> emAndamento = CompletableFuture.runAsync(searchIndex::reconstruir);
+        try {
+            assertTrue(iniciou.await(10, TimeUnit.SECONDS));
+
+            mockMvc.perform(post("/clientes/search/rebuild").header(HttpHeaders.AUTHORIZATION, "Bearer " + admin))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.code").value("SEARCH_INDEX_REBUILD_IN_PROGRESS"));
+        } finally {
+            liberar.countDown();
+            emAndamento.get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private String token(String username) throws Exception {
+        if (usuarioRepository.findByUsername(username).isEmpty()) {
+            usuarioService.registrarNovoUsuario(new RegisterRequestDTO(username, "senha123"));
+        }
+        String login = mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"senha123\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(login).get("token").asText();
+    }
+}
@@ -0,0 +1,50 @@
+package com.neoapp.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Documento OpenAPI gerado pelo springdoc em /v3/api-docs
+@SpringBootTest(properties = {
+        "jwt.secret=dGVzdGUtc2VjcmV0LWp3dC1jbGllbnRlcy1hcGktMzItYnl0ZXMtbWluaW1v",
+        "spring.datasource.url=jdbc:h2:mem:openapi;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OpenApiIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Os GETs com ETag devolvem ApiResponse<Object>, mas documentam o mesmo envelope tipado do POST
+    @Test
+    void buscasPorIdECpf_documentamOEnvelopeDoCliente() throws Exception {
+        JsonNode doc = objectMapper.readTree(mockMvc.perform(get("/v3/api-docs"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+        JsonNode paths = doc.get("paths");
+        String criado = schema(paths.get("/clientes").get("post"), "200");
+
+        assertEquals("#/components/schemas/ApiResponseClienteResponseDTO", criado);
+        assertEquals(criado, schema(paths.get("/clientes/{id}").get("get"), "200"));
+        assertEquals(criado, schema(paths.get("/clientes/cpf/{cpf}").get("get"), "200"));
+        assertTrue(doc.at("/components/schemas/ApiResponseClienteResponseDTO/properties/data").has("$ref"));
+    }
+
+    private static String schema(JsonNode operacao, String status) {
+        return operacao.get("responses").get(status).get("content").elements().next().get("schema").get("$ref").asText();
+    }
+}
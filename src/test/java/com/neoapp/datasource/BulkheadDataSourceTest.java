@@ -0,0 +1,79 @@
+package com.neoapp.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BulkheadDataSourceTest {
+
+    @Test
+    void getConnection_semVaga_lancaSqlTransientAposEspera() throws Exception {
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenAnswer(i -> mock(Connection.class));
+        BulkheadDataSource bulkhead = new BulkheadDataSource(pool, 2, Duration.ofMillis(50));
+
+        Connection primeira = bulkhead.getConnection();
+        Connection segunda = bulkhead.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, bulkhead::getConnection);
+        assertEquals(2, bulkhead.getEmUso());
+
+        primeira.close();
+        primeira.close();
+        assertTrue(primeira.isClosed());
+        assertEquals(1, bulkhead.getEmUso());
+        bulkhead.getConnection().close();
+        segunda.close();
+        assertEquals(0, bulkhead.getEmUso());
+    }
+
+    @Test
+    void getConnection_falhaNoPool_devolveAVaga() throws Exception {
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenThrow(new SQLException("banco fora"));
+        BulkheadDataSource bulkhead = new BulkheadDataSource(pool, 1, Duration.ofMillis(50));
+
+        assertThrows(SQLException.class, bulkhead::getConnection);
+        assertThrows(SQLException.class, bulkhead::getConnection);
+        assertEquals(0, bulkhead.getEmUso());
+    }
+
+    @Test
+    void getConnection_muitasVirtualThreads_esperamNaFilaSemPassarDaCapacidade() throws Exception {
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenAnswer(i -> mock(Connection.class));
+        BulkheadDataSource bulkhead = new BulkheadDataSource(pool, 4, Duration.ofSeconds(10));
+        int[] maximo = new int[1];
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<?>[] tarefas = new CompletableFuture<?>[1_000];
+            for (int i = 0; i < tarefas.length; i++) {
+                tarefas[i] = CompletableFuture.runAsync(() -> {
+                    try (Connection ignored = bulkhead.getConnection()) {
+                        synchronized (maximo) {
+                            maximo[0] = Math.max(maximo[0], bulkhead.getEmUso());
+                        }
+                        Thread.sleep(1);
+                    } catch (SQLException | InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }, executor);
+            }
+            CompletableFuture.allOf(tarefas).get(30, TimeUnit.SECONDS);
+        }
+
+        assertEquals(4, maximo[0]);
+        assertEquals(0, bulkhead.getEmUso());
+        verify(pool, times(1_000)).getConnection();
+    }
+}
@@ -0,0 +1,133 @@
+package com.neoapp.datasource;
+
+import com.neoapp.dto.ClienteRequestDTO;
+import com.neoapp.repository.ClienteRepository;
+import com.neoapp.service.ClienteService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.neoapp.CpfGenerator.cpf;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Primário e réplica são dois H2 independentes, sem replicação entre eles: o que a réplica devolve
+// mostra para onde cada leitura foi roteada
+@SpringBootTest(properties = {
+        "jwt.secret=dGVzdGUtc2VjcmV0LWp3dC1jbGllbnRlcy1hcGktMzItYnl0ZXMtbWluaW1v",
+        "spring.datasource.url=" + ReplicaRoutingIntegrationTest.PRIMARIO,
+        "clientes.datasource.replica.enabled=true",
+        "clientes.datasource.replica.url=" + ReplicaRoutingIntegrationTest.REPLICA,
+        "clientes.datasource.replica.read-your-writes-window=PT0.5S"
+})
+@ActiveProfiles("test")
+class ReplicaRoutingIntegrationTest {
+
+    static final String PRIMARIO = "jdbc:h2:mem:primario;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+    static final String REPLICA = "jdbc:h2:mem:replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // O Flyway da aplicação só migra o primário
+    @BeforeAll
+    static void migrarReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA, "sa", "")
+                .locations("classpath:db/migration/common")
+                .load()
+                .migrate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        clienteRepository.deleteAll();
+    }
+
+    @Test
+    void leituraSomenteLeitura_vaiParaReplica_gravacaoParaPrimario() {
+        ReplicaRoutingDataSource roteador = assertInstanceOf(ReplicaRoutingDataSource.class, dataSource);
+        autenticar("ana");
+        clienteService.criarCliente(requisicao(0, "Ana Replica"));
+
+        autenticar("bruno");
+        long antes = roteador.getConexoesReplica();
+        assertEquals(0, clienteService.listarClientes(PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(antes + 1, roteador.getConexoesReplica());
+    }
+
+    @Test
+    void aposGravar_mesmoUsuarioLeDoPrimarioDuranteAJanela() throws InterruptedException {
+        ReplicaRoutingDataSource roteador = assertInstanceOf(ReplicaRoutingDataSource.class, dataSource);
+        autenticar("ana");
+        clienteService.criarCliente(requisicao(1, "Ana Primario"));
+
+        long antes = roteador.getLeiturasNoPrimario();
+        assertEquals(List.of("Ana Primario"), nomesListados());
+        assertEquals(antes + 1, roteador.getLeiturasNoPrimario());
+
+        // Passada a janela, a réplica (aqui, sem replicação) volta a ser usada
+        Thread.sleep(600);
+        assertEquals(List.of(), nomesListados());
+    }
+
+    // Transação read-write sem gravação (como a consulta de usuário do filtro JWT) não conta como escrita
+    @Test
+    void leituraAutenticadaSemGravacao_naoDesviaParaPrimario() {
+        ReplicaRoutingDataSource roteador = assertInstanceOf(ReplicaRoutingDataSource.class, dataSource);
+        autenticar("carla");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> clienteRepository.count());
+
+        long antes = roteador.getLeiturasNoPrimario();
+        long replica = roteador.getConexoesReplica();
+        assertEquals(List.of(), nomesListados());
+        assertEquals(antes, roteador.getLeiturasNoPrimario());
+        assertEquals(replica + 1, roteador.getConexoesReplica());
+    }
+
+    // Sem usuário não há a quem atribuir a gravação: nenhuma requisição anônima é desviada
+    @Test
+    void gravacaoAnonima_naoDesviaLeiturasAnonimas() {
+        ReplicaRoutingDataSource roteador = assertInstanceOf(ReplicaRoutingDataSource.class, dataSource);
+        clienteService.criarCliente(requisicao(2, "Anonimo"));
+
+        long antes = roteador.getLeiturasNoPrimario();
+        assertEquals(List.of(), nomesListados());
+        assertEquals(antes, roteador.getLeiturasNoPrimario());
+    }
+
+    private List<String> nomesListados() {
+        return clienteService.listarClientes(PageRequest.of(0, 10)).map(c -> c.nome()).getContent();
+    }
+
+    private static void autenticar(String usuario) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(usuario, null, List.of()));
+    }
+
+    private static ClienteRequestDTO requisicao(int i, String nome) {
+        return new ClienteRequestDTO(cpf(700 + i), nome, LocalDate.of(1990, 1, 15), "replica" + i + "@email.com");
+    }
+}
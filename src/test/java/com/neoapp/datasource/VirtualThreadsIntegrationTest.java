@@ -0,0 +1,65 @@
+package com.neoapp.datasource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Modo virtual threads: o DataSource do Hikari fica atrás do bulkhead, e bulkhead cheio vira 429
+@SpringBootTest(properties = {
+        "jwt.secret=dGVzdGUtc2VjcmV0LWp3dC1jbGllbnRlcy1hcGktMzItYnl0ZXMtbWluaW1v",
+        // Banco próprio: o contexto das demais classes de integração usa jdbc:h2:mem:testdb
+        "spring.datasource.url=jdbc:h2:mem:virtualthreads;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.threads.virtual.enabled=true",
+        "spring.datasource.hikari.maximum-pool-size=3",
+        "clientes.datasource.bulkhead.max-wait=PT0.1S"
+})
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class VirtualThreadsIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void bulkheadCheio_requisicaoRecebe429() throws Exception {
+        BulkheadDataSource bulkhead = assertInstanceOf(BulkheadDataSource.class, dataSource);
+        assertEquals(3, bulkhead.getCapacidade());
+
+        List<Connection> ocupadas = new ArrayList<>();
+        try {
+            for (int i = 0; i < bulkhead.getCapacidade(); i++) {
+                ocupadas.add(dataSource.getConnection());
+            }
+            mockMvc.perform(get("/clientes/{id}", 999_999L))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                    .andExpect(jsonPath("$.code").value("TOO_MANY_REQUESTS"));
+        } finally {
+            for (Connection conexao : ocupadas) {
+                conexao.close();
+            }
+        }
+
+        mockMvc.perform(get("/clientes/{id}", 999_999L))
+                .andExpect(status().isNotFound());
+        assertEquals(0, bulkhead.getEmUso());
+    }
+}
@@ -0,0 +1,92 @@
+package com.neoapp.repository;
+
+import com.neoapp.IntegrationTest;
+import com.neoapp.model.Cliente;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Schema vindo das migrações Flyway (db/migration) e os índices que as consultas de ClienteRepository usam
+@IntegrationTest
+class SchemaMigrationIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from clients");
+    }
+
+    @Test
+    void migracoes_aplicadasEmOrdem() {
+        List<String> versoes = jdbcTemplate.queryForList(
+                "select \"version\" from flyway_schema_history where \"success\" and \"version\" is not null order by \"installed_rank\"", String.class);
+
+        assertEquals(List.of("1", "2", "3"), versoes);
+    }
+
+    @Test
+    void version_temPadraoZero() {
+        jdbcTemplate.update("insert into clients (cliente_id, cpf, nome, data_nascimento, email) "
+                + "values (nextval('clients_seq'), '68691814039', 'Fulano', date '1990-01-15', 'fulano@email.com')");
+
+        assertEquals(0L, jdbcTemplate.queryForObject("select version from clients", Long.class));
+    }
+
+    @Test
+    void listagemOrdenadaPorNome_percorreIndiceSemOrdenar() {
+        String plano = plano("select * from clients order by nome, cliente_id fetch first 20 rows only");
+
+        assertTrue(plano.contains("idx_clients_nome_id"), plano);
+        assertTrue(plano.contains("index sorted"), plano);
+    }
+
+    @Test
+    void cursorPorNome_usaIndiceNomeId() {
+        String plano = plano("select * from clients where nome >= 'Ana' order by nome, cliente_id fetch first 20 rows only");
+
+        assertTrue(plano.contains("idx_clients_nome_id"), plano);
+    }
+
+    @Test
+    void cursorAposNomeId_comecaAFaixaNoIndice() {
+        // Mesmo predicado que findApos gera: (nome, cliente_id) > (?, ?)
+        String plano = plano("select * from clients where (nome, cliente_id) > ('Ana', 10) order by nome, cliente_id fetch first 20 rows only");
+
+        assertTrue(plano.contains("idx_clients_nome_id: nome >= 'ana'"), plano);
+        assertTrue(plano.contains("index sorted"), plano);
+    }
+
+    @Test
+    void buscasPorCpfEEmail_usamAsConstraintsUnicas() {
+        assertTrue(plano("select * from clients where cpf = '68691814039'").contains("uk_clients_cpf"));
+        assertTrue(plano("select cpf from clients where email in ('a@b.com', 'c@d.com')").contains("uk_clients_email"));
+    }
+
+    @Test
+    void cpf_gravadoComoNumero_lidoComZerosAEsquerda() {
+        Cliente salvo = clienteRepository.save(new Cliente("00000000191", "Fulano", LocalDate.of(1990, 1, 15), "fulano@email.com"));
+
+        assertEquals(191L, jdbcTemplate.queryForObject("select cpf from clients", Long.class));
+        assertEquals(salvo.getId(), clienteRepository.findByCpf("00000000191").orElseThrow().getId());
+        assertEquals(Set.of("00000000191"), clienteRepository.findCpfsExistentes(List.of("00000000191", "68691814039")));
+        // Fora do formato: não encontra, em vez de falhar na conversão
+        assertTrue(clienteRepository.findByCpf("191").isEmpty());
+        assertTrue(clienteRepository.findByCpf("686.918.140-39").isEmpty());
+    }
+
+    private String plano(String sql) {
+        return jdbcTemplate.queryForObject("explain " + sql, String.class).toLowerCase();
+    }
+}
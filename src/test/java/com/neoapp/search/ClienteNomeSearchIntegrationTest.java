@@ -0,0 +1,95 @@
+package com.neoapp.search;
+
+import com.neoapp.IntegrationTest;
+import com.neoapp.dto.ClienteRequestDTO;
+import com.neoapp.model.Cliente;
+import com.neoapp.repository.ClienteRepository;
+import com.neoapp.service.ClienteService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.neoapp.CpfGenerator.cpf;
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+class ClienteNomeSearchIntegrationTest {
+
+    @Autowired
+    private ClienteNomeSearch nomeSearch;
+
+    @Autowired
+    private NomeBuscaBackfill backfill;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        String[] nomes = {"João Conceição", "Joana Silva", "Marianna Gonçalves", "Ana Maria", "Sebastião Joãozinho"};
+        for (int i = 0; i < nomes.length; i++) {
+            clienteService.criarCliente(new ClienteRequestDTO(cpf(300 + i), nomes[i], LocalDate.of(1990, 1, 15), "s" + i + "@email.com"));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        clienteRepository.deleteAll();
+    }
+
+    private List<String> nomes(ModoBusca modo, String termo) {
+        Page<Cliente> pagina = nomeSearch.buscar(termo, modo, PageRequest.of(0, 10, Sort.by("nome")));
+        return pagina.getContent().stream().map(Cliente::getNome).toList();
+    }
+
+    @Test
+    void contem_ignoraAcentosEMaiusculas() {
+        assertEquals(List.of("João Conceição", "Sebastião Joãozinho"), nomes(ModoBusca.CONTEM, "JOAO"));
+        assertEquals(List.of("João Conceição"), nomes(ModoBusca.CONTEM, "conceicao"));
+    }
+
+    @Test
+    void prefixo_consideraApenasOInicioDoNome() {
+        assertEquals(List.of("Joana Silva", "João Conceição"), nomes(ModoBusca.PREFIXO, "jo"));
+    }
+
+    @Test
+    void fuzzy_toleraErroDeDigitacaoEOrdenaPorSemelhanca() {
+        List<String> encontrados = nomes(ModoBusca.FUZZY, "Mariana Goncalvez");
+
+        assertEquals("Marianna Gonçalves", encontrados.getFirst());
+        assertFalse(encontrados.contains("Joana Silva"));
+    }
+
+    @Test
+    void prefixo_usaIndiceDaColunaNormalizada() {
+        String plano = jdbcTemplate.queryForObject(
+                "explain select * from clients where nome_busca like 'jo%'", String.class);
+
+        assertTrue(plano.toLowerCase().contains("idx_clients_nome_busca"), plano);
+    }
+
+    @Test
+    void backfill_preencheNomeBuscaDeRegistrosAntigos() {
+        jdbcTemplate.update("update clients set nome_busca = null");
+
+        backfill.preencher();
+
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from clients where nome_busca is null", Integer.class));
+        assertEquals(List.of("João Conceição"), nomes(ModoBusca.CONTEM, "conceição"));
+    }
+}
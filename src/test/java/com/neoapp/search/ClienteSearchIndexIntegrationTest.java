@@ -0,0 +1,102 @@
+package com.neoapp.search;
+
+import com.neoapp.IntegrationTest;
+import com.neoapp.dto.ClienteImportResultDTO;
+import com.neoapp.dto.ClienteRequestDTO;
+import com.neoapp.dto.ClienteResponseDTO;
+import com.neoapp.repository.ClienteRepository;
+import com.neoapp.service.ClienteImportService;
+import com.neoapp.service.ClienteService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.neoapp.CpfGenerator.cpf;
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+class ClienteSearchIndexIntegrationTest {
+
+    @Autowired
+    private ClienteSearchIndex searchIndex;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ClienteImportService importService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    private ClienteResponseDTO joao;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex.reconstruir();
+        joao = clienteService.criarCliente(new ClienteRequestDTO(cpf(400), "João Conceição", LocalDate.of(1990, 1, 15), "joao.c@email.com"));
+        clienteService.criarCliente(new ClienteRequestDTO(cpf(401), "Joana Silva", LocalDate.of(1985, 3, 2), "joana@provedor.com"));
+        clienteService.criarCliente(new ClienteRequestDTO(cpf(402), "Marcos Joaquim", LocalDate.of(1970, 7, 9), "mj@email.com"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        clienteRepository.deleteAll();
+        searchIndex.reconstruir();
+    }
+
+    private List<String> nomes(String q, boolean fuzzy) {
+        Page<ClienteResponseDTO> pagina = searchIndex.buscar(q, fuzzy, PageRequest.of(0, 10));
+        return pagina.getContent().stream().map(ClienteResponseDTO::nome).toList();
+    }
+
+    @Test
+    void buscar_prefixoSemAcentoEmNomeEEmail() {
+        assertEquals(List.of("Joana Silva", "João Conceição", "Marcos Joaquim"), nomes("jo", false));
+        assertEquals(List.of("João Conceição"), nomes("JOAO conc", false));
+        assertEquals(List.of("Joana Silva"), nomes("provedor", false));
+    }
+
+    @Test
+    void buscar_exatoPontuaAcimaDePrefixo() {
+        assertEquals("João Conceição", nomes("joao", false).getFirst());
+    }
+
+    @Test
+    void buscar_fuzzyToleraErroDeDigitacao() {
+        assertEquals(List.of(), nomes("concepcao", false));
+        assertEquals(List.of("João Conceição"), nomes("concepcao", true));
+    }
+
+    @Test
+    void eventosDoService_mantemIndiceAtualizado() {
+        clienteService.atualizarCliente(joao.id(), new ClienteRequestDTO(cpf(400), "João Batista", LocalDate.of(1990, 1, 15), "joao.c@email.com"));
+        clienteService.deletarCliente(joao.id());
+        assertEquals(List.of(), nomes("batista", false));
+
+        ClienteImportResultDTO importados = importService.importarNdjson(new ByteArrayInputStream(
+                ("{\"cpf\":\"" + cpf(403) + "\",\"nome\":\"Zuleica Prado\",\"dataNascimento\":\"1990-01-15\",\"email\":\"z@email.com\"}")
+                        .getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(1, importados.inseridos());
+        assertEquals(List.of("Zuleica Prado"), nomes("zul", false));
+        assertEquals(3, searchIndex.stats().documentos());
+    }
+
+    @Test
+    void stats_registraConsultasELatencia() {
+        long antes = searchIndex.stats().consultas();
+        nomes("jo", false);
+
+        assertEquals(antes + 1, searchIndex.stats().consultas());
+        assertTrue(searchIndex.stats().termos() > 0);
+    }
+}
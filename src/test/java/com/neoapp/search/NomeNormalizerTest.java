@@ -0,0 +1,35 @@
+package com.neoapp.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NomeNormalizerTest {
+
+    @Test
+    void normalizar_removeAcentosEPontuacao() {
+        assertEquals("joao d avila conceicao", NomeNormalizer.normalizar("  João D'Ávila   CONCEIÇÃO "));
+        assertEquals("100 x", NomeNormalizer.normalizar("100%_x"));
+        assertNull(NomeNormalizer.normalizar(null));
+    }
+
+    @Test
+    void normalizar_independeDoLocaleDoServidor() {
+        Locale original = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            assertEquals("igor ilha", NomeNormalizer.normalizar("IGOR ILHA"));
+        } finally {
+            Locale.setDefault(original);
+        }
+    }
+
+    @Test
+    void semelhanca_mesmaDefinicaoDoPgTrgm() {
+        // pg_trgm: similarity('word', 'two words') = 0.36363637
+        assertEquals(0.3636, Trigramas.semelhanca(Trigramas.de("word"), Trigramas.de("two words")), 0.0001);
+        assertEquals(1.0, Trigramas.semelhanca(Trigramas.de("ana"), Trigramas.de("ana")));
+    }
+}
@@ -0,0 +1,67 @@
+package com.neoapp.security;
+
+import com.neoapp.config.SecurityConfig;
+import com.neoapp.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    @Test
+    void matches_hashBcryptSemPrefixo_aceitaESinalizaUpgrade() {
+        PasswordEncoder encoder = new SecurityConfig(null, null).passwordEncoder("pbkdf2", 4, 1, 4);
+        String hashAntigo = new BCryptPasswordEncoder(4).encode("senha123");
+
+        assertTrue(encoder.matches("senha123", hashAntigo));
+        assertTrue(encoder.upgradeEncoding(hashAntigo));
+
+        String novoHash = encoder.encode("senha123");
+        assertTrue(novoHash.startsWith("{pbkdf2}"));
+        assertFalse(encoder.upgradeEncoding(novoHash));
+    }
+
+    @Test
+    void encode_poolEFilaCheios_lancaTooManyRequests() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch ocupado = new CountDownLatch(1);
+        PasswordEncoder lento = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                ocupado.countDown();
+                try {
+                    liberar.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(lento, 1, 1);
+
+        CompletableFuture<String> emExecucao = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        ocupado.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> naFila = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        while (encoder.getExecutor().getQueue().isEmpty()) {
+            Thread.onSpinWait();
+        }
+
+        assertThrows(TooManyRequestsException.class, () -> encoder.encode("c"));
+
+        liberar.countDown();
+        assertEquals("a", emExecucao.get(5, TimeUnit.SECONDS));
+        assertEquals("b", naFila.get(5, TimeUnit.SECONDS));
+        encoder.destroy();
+    }
+}
@@ -0,0 +1,82 @@
+package com.neoapp.security;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "dGVzdGUtc2VjcmV0LWp3dC1jbGllbnRlcy1hcGktMzItYnl0ZXMtbWluaW1v";
+
+    private JwtUtil jwtUtil;
+    private UserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = novoJwtUtil(SECRET, 60_000);
+        userDetails = new User("wilgner", "senha", Collections.emptyList());
+    }
+
+    private static JwtUtil novoJwtUtil(String secret, long expirationMs) {
+        JwtUtil util = new JwtUtil();
+        ReflectionTestUtils.setField(util, "jwtSecret", secret);
+        ReflectionTestUtils.setField(util, "jwtExpirationMs", expirationMs);
+        ReflectionTestUtils.setField(util, "cacheMaxSize", 100L);
+        util.init();
+        return util;
+    }
+
+    @Test
+    void extractUsername_tokenGerado_retornaSubject() {
+        String token = jwtUtil.generateToken(userDetails);
+
+        assertEquals("wilgner", jwtUtil.extractUsername(token));
+        assertTrue(jwtUtil.isTokenValid(token, userDetails));
+    }
+
+    @Test
+    void extractAllClaims_mesmoToken_verificaApenasUmaVez() {
+        String token = jwtUtil.generateToken(userDetails);
+
+        jwtUtil.extractUsername(token);
+        jwtUtil.isTokenValid(token, userDetails);
+        jwtUtil.extractUsername(token);
+
+        assertEquals(1, jwtUtil.verifiedTokenCacheStats().missCount());
+        assertEquals(2, jwtUtil.verifiedTokenCacheStats().hitCount());
+    }
+
+    @Test
+    void extractAllClaims_tokenAssinadoComOutraChave_lancaExceptionSemCachear() {
+        JwtUtil outro = novoJwtUtil("b3V0cm8tc2VjcmV0LWRpZmVyZW50ZS1jb20tMzItYnl0ZXMtb3UtbWFpcw==", 60_000);
+        String token = outro.generateToken(userDetails);
+
+        assertThrows(JwtException.class, () -> jwtUtil.extractUsername(token));
+        assertThrows(JwtException.class, () -> jwtUtil.extractUsername(token));
+        assertEquals(0, jwtUtil.verifiedTokenCacheStats().hitCount());
+    }
+
+    @Test
+    void extractAllClaims_tokenExpirado_lancaException() {
+        JwtUtil expirando = novoJwtUtil(SECRET, -1_000);
+        String token = expirando.generateToken(userDetails);
+
+        assertThrows(JwtException.class, () -> expirando.extractUsername(token));
+    }
+
+    @Test
+    void isTokenValid_versaoDoUsuarioIncrementada_retornaFalse() {
+        String token = jwtUtil.generateToken(new AppUserDetails("wilgner", "senha", Collections.emptyList(), 1));
+
+        assertEquals(1, jwtUtil.extractTokenVersion(jwtUtil.extractAllClaims(token)));
+        assertTrue(jwtUtil.isTokenValid(token, new AppUserDetails("wilgner", "senha", Collections.emptyList(), 1)));
+        assertFalse(jwtUtil.isTokenValid(token, new AppUserDetails("wilgner", "senha", Collections.emptyList(), 2)));
+    }
+}
@@ -0,0 +1,31 @@
+package com.neoapp.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationRegistryTest {
+
+    @Test
+    void isRevogado_tokensAnterioresAVersaoMinima() {
+        TokenRevocationRegistry registry = new TokenRevocationRegistry(60_000);
+        registry.revogar("ana", 2);
+        registry.revogar("ana", 1);
+
+        assertTrue(registry.isRevogado("ana", 1));
+        assertFalse(registry.isRevogado("ana", 2));
+        assertFalse(registry.isRevogado("bruno", 0));
+    }
+
+    // Sem limite de tamanho: muitas revogações não descartam as mais antigas antes do TTL
+    @Test
+    void revogar_acimaDoAntigoLimite_naoEsqueceRevogacoes() {
+        TokenRevocationRegistry registry = new TokenRevocationRegistry(60_000);
+        for (int i = 0; i < 150_000; i++) {
+            registry.revogar("usuario" + i, 1);
+        }
+
+        assertTrue(registry.isRevogado("usuario0", 0));
+        assertEquals(0, registry.revogacoesStats().evictionCount());
+    }
+}
@@ -6,13 +6,17 @@ import com.neoapp.security.AppUserDetailsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -23,13 +27,15 @@ class AppUserDetailsServiceTest {
     @Mock
     private UsuarioRepository usuarioRepository;
 
-    @InjectMocks
     private AppUserDetailsService userDetailsService;
 
     private Usuario usuario;
 
     @BeforeEach
     void setUp() {
+        userDetailsService = new AppUserDetailsService(usuarioRepository,
+                100, Duration.ofMinutes(5), 100, Duration.ofSeconds(30), Set.of("admin"));
+
         usuario = new Usuario();
         usuario.setId(1L);
         usuario.setUsername("wilgner");
@@ -50,6 +56,16 @@ class AppUserDetailsServiceTest {
         verify(usuarioRepository).findByUsername("wilgner");
     }
 
+    @Test
+    void loadUserByUsername_usuarioEmAdminUsers_recebeRoleAdmin() {
+        usuario.setUsername("admin");
+        when(usuarioRepository.findByUsername("admin")).thenReturn(Optional.of(usuario));
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername("admin");
+
+        assertEquals(List.of("ROLE_ADMIN"), userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
     @Test
     void loadUserByUsername_usuarioNaoExiste_lancaException() {
         when(usuarioRepository.findByUsername("inexistente")).thenReturn(Optional.empty());
@@ -60,4 +76,33 @@ class AppUserDetailsServiceTest {
         assertEquals("Usuário não encontrado", ex.getMessage());
         verify(usuarioRepository).findByUsername("inexistente");
     }
+
+    @Test
+    void loadUserByUsername_chamadasRepetidas_consultaRepositorioUmaVez() {
+        when(usuarioRepository.findByUsername("wilgner")).thenReturn(Optional.of(usuario));
+
+        UserDetails primeiro = userDetailsService.loadUserByUsername("wilgner");
+        ((CredentialsContainer) primeiro).eraseCredentials();
+        UserDetails segundo = userDetailsService.loadUserByUsername("wilgner");
+
+        assertEquals(usuario.getPassword(), segundo.getPassword());
+        assertEquals(1, userDetailsService.usuariosCacheStats().hitCount());
+        verify(usuarioRepository, times(1)).findByUsername("wilgner");
+    }
+
+    @Test
+    void loadUserByUsername_usuarioInexistente_usaCacheNegativoAteEvict() {
+        when(usuarioRepository.findByUsername("novo")).thenReturn(Optional.empty());
+
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("novo"));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("novo"));
+        verify(usuarioRepository, times(1)).findByUsername("novo");
+
+        usuario.setUsername("novo");
+        when(usuarioRepository.findByUsername("novo")).thenReturn(Optional.of(usuario));
+        userDetailsService.evict("novo");
+
+        assertEquals("novo", userDetailsService.loadUserByUsername("novo").getUsername());
+        verify(usuarioRepository, times(2)).findByUsername("novo");
+    }
 }
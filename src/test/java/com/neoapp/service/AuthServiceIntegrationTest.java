@@ -0,0 +1,70 @@
+package com.neoapp.service;
+
+import com.neoapp.IntegrationTest;
+import com.neoapp.dto.AuthRequestDTO;
+import com.neoapp.dto.AuthResponseDTO;
+import com.neoapp.dto.RefreshTokenRequestDTO;
+import com.neoapp.dto.RegisterRequestDTO;
+import com.neoapp.security.JwtUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Mede as consultas SQL emitidas por login (estatísticas do Hibernate)
+@IntegrationTest
+class AuthServiceIntegrationTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void login_carregaUsuarioUmaUnicaVezEUsaCacheNosSeguintes() {
+        usuarioService.registrarNovoUsuario(new RegisterRequestDTO("login", "senha123"));
+
+        statistics.clear();
+        AuthResponseDTO primeiro = authService.login(new AuthRequestDTO("login", "senha123"));
+        long consultasPrimeiroLogin = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        authService.login(new AuthRequestDTO("login", "senha123"));
+        long consultasSegundoLogin = statistics.getPrepareStatementCount();
+
+        assertEquals(1, consultasPrimeiroLogin);
+        assertEquals(0, consultasSegundoLogin);
+        assertEquals("login", jwtUtil.extractUsername(primeiro.token()));
+    }
+
+    @Test
+    void refresh_tokenDeAcessoNaoServeComoRefresh() {
+        usuarioService.registrarNovoUsuario(new RegisterRequestDTO("refresh", "senha123"));
+        AuthResponseDTO tokens = authService.login(new AuthRequestDTO("refresh", "senha123"));
+
+        AuthResponseDTO renovados = authService.refresh(new RefreshTokenRequestDTO(tokens.refreshToken()));
+
+        assertEquals("refresh", jwtUtil.extractUsername(renovados.token()));
+        assertThrows(BadCredentialsException.class,
+                () -> authService.refresh(new RefreshTokenRequestDTO(tokens.token())));
+    }
+}
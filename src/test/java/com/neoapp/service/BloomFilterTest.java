@@ -0,0 +1,40 @@
+package com.neoapp.service;
+
+import com.neoapp.CpfGenerator;
+import com.neoapp.model.CpfConverter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void semFalsosNegativos_eFalsosPositivosPertoDoDimensionado() {
+        BloomFilter filtro = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filtro.adicionar(BloomFilter.misturar(CpfConverter.numero(CpfGenerator.cpf(i))));
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filtro.podeConter(BloomFilter.misturar(CpfConverter.numero(CpfGenerator.cpf(i)))));
+        }
+        int falsosPositivos = 0;
+        for (int i = 10_000; i < 110_000; i++) {
+            if (filtro.podeConter(BloomFilter.misturar(CpfConverter.numero(CpfGenerator.cpf(i))))) {
+                falsosPositivos++;
+            }
+        }
+        assertTrue(falsosPositivos < 2_000, "falsos positivos: " + falsosPositivos);
+        assertEquals(0.01, filtro.fppEstimada(), 0.005);
+        assertEquals(10_000, filtro.elementos(), 100);
+    }
+
+    @Test
+    void hashDeTexto_distingueEmails() {
+        BloomFilter filtro = new BloomFilter(100, 0.01);
+        filtro.adicionar(BloomFilter.hash("fulano@email.com"));
+
+        assertTrue(filtro.podeConter(BloomFilter.hash("fulano@email.com")));
+        assertFalse(filtro.podeConter(BloomFilter.hash("ciclano@email.com")));
+    }
+}
@@ -0,0 +1,139 @@
+package com.neoapp.service;
+
+import com.neoapp.IntegrationTest;
+import com.neoapp.dto.ClienteRequestDTO;
+import com.neoapp.dto.ClienteResponseDTO;
+import com.neoapp.exception.ConflictException;
+import com.neoapp.exception.PreconditionFailedException;
+import com.neoapp.repository.ClienteRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static com.neoapp.CpfGenerator.cpf;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Vários escritores simultâneos: em clientes distintos ninguém espera ninguém;
+// no mesmo cliente nenhuma gravação se perde em silêncio (ou grava, ou recebe 409/412)
+@IntegrationTest
+class ClienteConcurrencyIntegrationTest {
+
+    private static final int ESCRITORES = 8;
+    private static final int GRAVACOES_POR_ESCRITOR = 10;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @AfterEach
+    void tearDown() {
+        clienteRepository.deleteAll();
+    }
+
+    @Test
+    void escritoresEmClientesDistintos_todasAsGravacoesSaoAceitas() throws Exception {
+        List<ClienteResponseDTO> clientes = new ArrayList<>();
+        for (int i = 0; i < ESCRITORES; i++) {
+            clientes.add(clienteService.criarCliente(requisicao(i, "Cliente " + i)));
+        }
+        AtomicInteger gravadas = new AtomicInteger();
+        AtomicInteger conflitos = new AtomicInteger();
+
+        executarJuntos(escritor -> {
+            ClienteResponseDTO cliente = clientes.get(escritor);
+            for (int n = 0; n < GRAVACOES_POR_ESCRITOR; n++) {
+                String nome = "Cliente " + escritor + " v" + n;
+                tentar(() -> clienteService.atualizarCliente(cliente.id(), requisicao(escritor, nome)), gravadas, conflitos);
+            }
+        });
+
+        assertEquals(ESCRITORES * GRAVACOES_POR_ESCRITOR, gravadas.get());
+        assertEquals(0, conflitos.get());
+        for (ClienteResponseDTO cliente : clientes) {
+            assertEquals(GRAVACOES_POR_ESCRITOR, clienteRepository.findById(cliente.id()).orElseThrow().getVersion());
+        }
+    }
+
+    @Test
+    void escritoresNoMesmoCliente_nenhumaGravacaoSePerdeEmSilencio() throws Exception {
+        ClienteResponseDTO cliente = clienteService.criarCliente(requisicao(0, "Disputado"));
+        AtomicInteger gravadas = new AtomicInteger();
+        AtomicInteger conflitos = new AtomicInteger();
+
+        executarJuntos(escritor -> {
+            for (int n = 0; n < GRAVACOES_POR_ESCRITOR; n++) {
+                String nome = "Escritor " + escritor + " v" + n;
+                tentar(() -> clienteService.atualizarCliente(cliente.id(), requisicao(0, nome)), gravadas, conflitos);
+            }
+        });
+
+        // Cada gravação aceita incrementou a versão exatamente uma vez
+        assertEquals(ESCRITORES * GRAVACOES_POR_ESCRITOR, gravadas.get() + conflitos.get());
+        assertEquals(gravadas.get(), clienteRepository.findById(cliente.id()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void ifMatch_somenteUmDosQueLeramAMesmaVersaoGrava() throws Exception {
+        ClienteResponseDTO cliente = clienteService.criarCliente(requisicao(0, "Disputado"));
+        long versaoLida = cliente.version();
+        AtomicInteger gravadas = new AtomicInteger();
+        AtomicInteger conflitos = new AtomicInteger();
+
+        executarJuntos(escritor -> tentar(
+                () -> clienteService.atualizarCliente(cliente.id(), requisicao(0, "Escritor " + escritor), versaoLida),
+                gravadas, conflitos));
+
+        assertEquals(1, gravadas.get());
+        assertEquals(ESCRITORES - 1, conflitos.get());
+        assertEquals(versaoLida + 1, clienteRepository.findById(cliente.id()).orElseThrow().getVersion());
+    }
+
+    private static void tentar(Runnable gravacao, AtomicInteger gravadas, AtomicInteger conflitos) {
+        try {
+            gravacao.run();
+            gravadas.incrementAndGet();
+        } catch (ConflictException | PreconditionFailedException e) {
+            conflitos.incrementAndGet();
+        }
+    }
+
+    // Libera todos os escritores ao mesmo tempo e propaga qualquer falha inesperada
+    private static void executarJuntos(IntConsumer escritor) throws Exception {
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(ESCRITORES);
+        try {
+            List<Future<?>> futuros = new ArrayList<>();
+            for (int i = 0; i < ESCRITORES; i++) {
+                int id = i;
+                futuros.add(executor.submit(() -> {
+                    largada.await();
+                    escritor.accept(id);
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> futuro : futuros) {
+                futuro.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ClienteRequestDTO requisicao(int i, String nome) {
+        return new ClienteRequestDTO(cpf(500 + i), nome, LocalDate.of(1990, 1, 15), "concorrencia" + i + "@email.com");
+    }
+}
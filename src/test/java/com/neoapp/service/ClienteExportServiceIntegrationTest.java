@@ -0,0 +1,76 @@
+package com.neoapp.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neoapp.IntegrationTest;
+import com.neoapp.dto.ClienteRequestDTO;
+import com.neoapp.dto.ClienteResponseDTO;
+import com.neoapp.repository.ClienteRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static com.neoapp.CpfGenerator.cpf;
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+class ClienteExportServiceIntegrationTest {
+
+    @Autowired
+    private ClienteExportService exportService;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ClienteResponseDTO primeiro;
+
+    @BeforeEach
+    void setUp() {
+        primeiro = clienteService.criarCliente(new ClienteRequestDTO(cpf(1), "Silva, \"Zé\"", LocalDate.of(1990, 1, 15), "ze@email.com"));
+        clienteService.criarCliente(new ClienteRequestDTO(cpf(2), "Maria", LocalDate.of(1985, 3, 2), "maria@email.com"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        clienteRepository.deleteAll();
+    }
+
+    private String exportar(ClienteExportService.Formato formato) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportar(formato, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void exportar_csv_escreveCabecalhoEEscapaCampos() {
+        String[] linhas = exportar(ClienteExportService.Formato.CSV).split("\r\n");
+
+        assertEquals(3, linhas.length);
+        assertEquals("id,cpf,nome,dataNascimento,email,createdAt", linhas[0]);
+        assertTrue(linhas[1].startsWith(primeiro.id() + "," + cpf(1) + ",\"Silva, \"\"Zé\"\"\",1990-01-15,ze@email.com,"), linhas[1]);
+        assertTrue(linhas[2].contains(",Maria,1985-03-02,maria@email.com,"), linhas[2]);
+    }
+
+    @Test
+    void exportar_ndjson_umObjetoPorLinha() throws Exception {
+        String[] linhas = exportar(ClienteExportService.Formato.NDJSON).split("\n");
+
+        assertEquals(2, linhas.length);
+        JsonNode json = objectMapper.readTree(linhas[0]);
+        assertEquals(primeiro.id().longValue(), json.get("id").asLong());
+        assertEquals("Silva, \"Zé\"", json.get("nome").asText());
+        assertEquals("1990-01-15", json.get("dataNascimento").asText());
+        assertEquals("maria@email.com", objectMapper.readTree(linhas[1]).get("email").asText());
+    }
+}
@@ -0,0 +1,181 @@
+package com.neoapp.service;
+
+import com.neoapp.IntegrationTest;
+import com.neoapp.dto.ClienteImportItemDTO;
+import com.neoapp.dto.ClienteImportResultDTO;
+import com.neoapp.dto.ClienteRequestDTO;
+import com.neoapp.exception.ErrorCode;
+import com.neoapp.model.Cliente;
+import com.neoapp.repository.ClienteRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Set;
+
+import static com.neoapp.CpfGenerator.cpf;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+
+// Banco próprio: o spy do repositório cria um contexto separado do das demais classes de integração
+@IntegrationTest
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:importacao;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH")
+class ClienteImportServiceIntegrationTest {
+
+    @Autowired
+    private ClienteImportService importService;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @MockitoSpyBean
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ClienteUnicidadeFiltro unicidadeFiltro;
+
+    @AfterEach
+    void tearDown() {
+        clienteRepository.deleteAll();
+    }
+
+    private static String linha(String cpf, String email) {
+        return "{\"cpf\":\"" + cpf + "\",\"nome\":\"Cliente Importado\",\"dataNascimento\":\"1990-01-15\",\"email\":\"" + email + "\"}";
+    }
+
+    private static ByteArrayInputStream corpo(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void importarNdjson_relataCadaLinha() {
+        clienteService.criarCliente(new ClienteRequestDTO(cpf(1), "Ja Cadastrado", LocalDate.of(1980, 5, 1), "existente@email.com"));
+
+        String ndjson = String.join("\n",
+                linha(cpf(2), "a@email.com"),
+                "{ isto não é json",
+                linha("11111111111", "b@email.com"),
+                linha(cpf(2), "c@email.com"),
+                linha(cpf(3), "existente@email.com"),
+                linha(cpf(1), "d@email.com"),
+                linha(cpf(4), "e@email.com"));
+
+        ClienteImportResultDTO resultado = importService.importarNdjson(corpo(ndjson));
+
+        assertEquals(7, resultado.total());
+        assertEquals(2, resultado.inseridos());
+        assertEquals(5, resultado.rejeitados());
+        assertItem(resultado.itens().get(0), 1, null);
+        assertItem(resultado.itens().get(1), 2, ErrorCode.BAD_FORMAT_JSON);
+        assertItem(resultado.itens().get(2), 3, ErrorCode.VALIDATION_ERROR);
+        assertItem(resultado.itens().get(3), 4, ErrorCode.CPF_ALREADY_EXISTS);
+        assertItem(resultado.itens().get(4), 5, ErrorCode.EMAIL_ALREADY_EXISTS);
+        assertItem(resultado.itens().get(5), 6, ErrorCode.CPF_ALREADY_EXISTS);
+        assertItem(resultado.itens().get(6), 7, null);
+        assertEquals(3, clienteRepository.count());
+    }
+
+    @Test
+    void importarJson_agrupaInsertsEmLotes() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 120; i++) {
+            if (i > 0) json.append(',');
+            json.append(linha(cpf(1000 + i), "cliente" + i + "@email.com"));
+        }
+        json.append(']');
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ClienteImportResultDTO resultado = importService.importarJson(corpo(json.toString()));
+
+        assertEquals(120, resultado.inseridos());
+        assertEquals(120, clienteRepository.count());
+        // Chamadas à sequence (pooled) + 1 insert em lote (+ consultas de unicidade, se o filtro não as dispensar);
+        // sem lote seriam 120+ statements
+        assertTrue(statistics.getPrepareStatementCount() <= 10,
+                "statements preparados: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void importar_clientesNovos_naoConsultaUnicidadeNoBanco() {
+        clienteService.criarCliente(new ClienteRequestDTO(cpf(2000), "Ja Cadastrado", LocalDate.of(1980, 5, 1), "Existente@email.com"));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ClienteImportResultDTO novos = importService.importarNdjson(corpo(linha(cpf(2001), "novo1@email.com") + "\n"
+                + linha(cpf(2002), "novo2@email.com")));
+
+        assertEquals(2, novos.inseridos());
+        assertEquals(0, statistics.getQueryExecutionCount());
+
+        // Chave que pode existir: confirmada no banco (email comparado exato; o filtro ignora maiúsculas)
+        ClienteImportResultDTO repetidos = importService.importarNdjson(corpo(linha(cpf(2000), "outro@email.com") + "\n"
+                + linha(cpf(2003), "existente@email.com")));
+
+        assertItem(repetidos.itens().get(0), 1, ErrorCode.CPF_ALREADY_EXISTS);
+        assertItem(repetidos.itens().get(1), 2, null);
+        assertTrue(statistics.getQueryExecutionCount() > 0);
+    }
+
+    @Test
+    void importar_duplicadoGravadoDepoisDaVerificacao_refazLinhaALinha() {
+        clienteService.criarCliente(new ClienteRequestDTO(cpf(3000), "Ja Cadastrado", LocalDate.of(1980, 5, 1), "corrida@email.com"));
+        // Simula outra requisição gravando entre a verificação e o insert: a consulta não vê o cliente
+        doReturn(Set.of()).when(clienteRepository).findCpfsExistentes(any());
+        doReturn(Set.of()).when(clienteRepository).findEmailsExistentes(any());
+
+        ClienteImportResultDTO resultado = importService.importarNdjson(corpo(String.join("\n",
+                linha(cpf(3001), "corrida1@email.com"),
+                linha(cpf(3000), "corrida2@email.com"),
+                linha(cpf(3002), "corrida@email.com"),
+                linha(cpf(3003), "corrida3@email.com"))));
+
+        assertEquals(2, resultado.inseridos());
+        assertItem(resultado.itens().get(0), 1, null);
+        assertItem(resultado.itens().get(1), 2, ErrorCode.CPF_ALREADY_EXISTS);
+        assertItem(resultado.itens().get(2), 3, ErrorCode.EMAIL_ALREADY_EXISTS);
+        assertItem(resultado.itens().get(3), 4, null);
+        assertEquals(3, clienteRepository.count());
+    }
+
+    @Test
+    void importar_filtroDesatualizado_duplicadoRejeitadoPelaConstraint() {
+        // Gravado sem ClienteEvent (como por outra instância): o filtro de unicidade não conhece este CPF
+        clienteRepository.saveAndFlush(new Cliente(cpf(4000), "Outra Instancia", LocalDate.of(1980, 5, 1), "outra.instancia@email.com"));
+        assertFalse(unicidadeFiltro.cpfPodeExistir(cpf(4000)));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ClienteImportResultDTO resultado = importService.importarNdjson(corpo(String.join("\n",
+                linha(cpf(4000), "repetido@email.com"),
+                linha(cpf(4001), "novo4001@email.com"))));
+
+        assertEquals(0, statistics.getQueryExecutionCount());
+        assertItem(resultado.itens().get(0), 1, ErrorCode.CPF_ALREADY_EXISTS);
+        assertItem(resultado.itens().get(1), 2, null);
+        assertEquals(2, clienteRepository.count());
+    }
+
+    private static void assertItem(ClienteImportItemDTO item, int linha, ErrorCode erro) {
+        assertEquals(linha, item.linha());
+        if (erro == null) {
+            assertTrue(item.sucesso());
+            assertNotNull(item.id());
+        } else {
+            assertFalse(item.sucesso());
+            assertEquals(erro.name(), item.code());
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.neoapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neoapp.IntegrationTest;
+import com.neoapp.controller.ClienteEtags;
+import com.neoapp.dto.ClientePatchDTO;
+import com.neoapp.dto.ClienteRequestDTO;
+import com.neoapp.dto.ClienteResponseDTO;
+import com.neoapp.dto.CursorPageDTO;
+import com.neoapp.exception.BusinessRuleException;
+import com.neoapp.exception.ErrorCode;
+import com.neoapp.exception.ResourceNotFoundException;
+import com.neoapp.model.Cliente;
+import com.neoapp.repository.ClienteRepository;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolationException;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static com.neoapp.CpfGenerator.cpf;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+class ClienteServiceIntegrationTest {
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private ClienteRepository clienteRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        clienteRepository.deleteAll();
+    }
+
+    private static ClienteRequestDTO cliente(String cpf, String email) {
+        return new ClienteRequestDTO(cpf, "Fulano de Tal", LocalDate.of(1990, 1, 15), email);
+    }
+
+    @Test
+    void criarCliente_cpfOuEmailDuplicado_traduzConstraintDoBanco() {
+        clienteService.criarCliente(cliente("68691814039", "fulano@email.com"));
+
+        BusinessRuleException cpf = assertThrows(BusinessRuleException.class,
+                () -> clienteService.criarCliente(cliente("68691814039", "outro@email.com")));
+        BusinessRuleException email = assertThrows(BusinessRuleException.class,
+                () -> clienteService.criarCliente(cliente("52998224725", "fulano@email.com")));
+
+        assertEquals(ErrorCode.CPF_ALREADY_EXISTS, cpf.getErrorCode());
+        assertEquals(ErrorCode.EMAIL_ALREADY_EXISTS, email.getErrorCode());
+        assertEquals(1, clienteRepository.count());
+    }
+
+    @Test
+    void atualizarCliente_mantendoProprioCpfEEmail_naoAcusaDuplicidade() {
+        ClienteResponseDTO criado = clienteService.criarCliente(cliente("68691814039", "fulano@email.com"));
+        clienteService.criarCliente(cliente("52998224725", "ciclano@email.com"));
+
+        ClienteResponseDTO atualizado = clienteService.atualizarCliente(criado.id(),
+                new ClienteRequestDTO("68691814039", "Fulano Atualizado", LocalDate.of(1990, 1, 15), "fulano@email.com"));
+        BusinessRuleException ex = assertThrows(BusinessRuleException.class,
+                () -> clienteService.atualizarCliente(criado.id(), cliente("68691814039", "ciclano@email.com")));
+
+        assertEquals("Fulano Atualizado", atualizado.nome());
+        assertEquals(ErrorCode.EMAIL_ALREADY_EXISTS, ex.getErrorCode());
+    }
+
+    @Test
+    void listarClientes_cursor_percorreTodosEmOrdemDeNomeEId() {
+        String[] nomes = {"Carla", "Ana", "Bruno", "Ana", "Ana Maria"};
+        for (int i = 0; i < nomes.length; i++) {
+            clienteService.criarCliente(new ClienteRequestDTO(cpf(100 + i), nomes[i], LocalDate.of(1990, 1, 15), "c" + i + "@email.com"));
+        }
+
+        List<String> visitados = new ArrayList<>();
+        String after = null;
+        int paginas = 0;
+        do {
+            CursorPageDTO<ClienteResponseDTO> pagina = clienteService.listarClientes(after, 2);
+            pagina.content().forEach(c -> visitados.add(c.nome()));
+            assertEquals(pagina.hasNext(), pagina.nextCursor() != null);
+            after = pagina.nextCursor();
+            paginas++;
+        } while (after != null);
+
+        assertEquals(List.of("Ana", "Ana", "Ana Maria", "Bruno", "Carla"), visitados);
+        assertEquals(3, paginas);
+    }
+
+    @Test
+    void listarPorNome_cursor_filtraEContinuaDoCursor() {
+        String[] nomes = {"Ana Souza", "Bruno", "Mariana", "ana paula"};
+        for (int i = 0; i < nomes.length; i++) {
+            clienteService.criarCliente(new ClienteRequestDTO(cpf(200 + i), nomes[i], LocalDate.of(1990, 1, 15), "n" + i + "@email.com"));
+        }
+
+        CursorPageDTO<ClienteResponseDTO> primeira = clienteService.listarPorNome("ana", null, 2);
+        CursorPageDTO<ClienteResponseDTO> segunda = clienteService.listarPorNome("ana", primeira.nextCursor(), 2);
+
+        assertEquals(2, primeira.size());
+        assertTrue(primeira.hasNext());
+        assertEquals(1, segunda.size());
+        assertFalse(segunda.hasNext());
+        assertNull(segunda.nextCursor());
+    }
+
+    @Test
+    void listarClientes_cursorInvalido_lancaBusinessRuleException() {
+        BusinessRuleException ex = assertThrows(BusinessRuleException.class,
+                () -> clienteService.listarClientes("não-é-cursor", 10));
+
+        assertEquals(ErrorCode.INVALID_CURSOR, ex.getErrorCode());
+    }
+
+    @Test
+    void buscarPorCpf_segundaLeituraVemDoCacheETrocaDeCpfInvalida() {
+        ClienteResponseDTO criado = clienteService.criarCliente(cliente("68691814039", "fulano@email.com"));
+        clienteService.buscarPorCpf("68691814039");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        clienteService.buscarPorCpf("68691814039");
+        clienteService.buscarPorId(criado.id());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        clienteService.atualizarCliente(criado.id(), cliente("52998224725", "fulano@email.com"));
+
+        assertThrows(ResourceNotFoundException.class, () -> clienteService.buscarPorCpf("68691814039"));
+        assertEquals("52998224725", clienteService.buscarPorId(criado.id()).cpf());
+        assertEquals(criado.id(), clienteService.buscarPorCpf("52998224725").id());
+
+        clienteService.deletarCliente(criado.id());
+        assertThrows(ResourceNotFoundException.class, () -> clienteService.buscarPorId(criado.id()));
+    }
+
+    @Test
+    void clienteCache_etagMudaQuandoClienteEAtualizado() {
+        ClienteResponseDTO criado = clienteService.criarCliente(cliente("68691814039", "fulano@email.com"));
+        ClienteResponseDTO lido = clienteService.buscarPorId(criado.id());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Mesma instância por id e por CPF, sem nova consulta: o JSON memorizado no controller vale para as duas rotas
+        assertSame(lido, clienteService.buscarPorCpf("68691814039"));
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        clienteService.atualizarCliente(criado.id(),
+                new ClienteRequestDTO("68691814039", "Fulano Atualizado", LocalDate.of(1990, 1, 15), "fulano@email.com"));
+
+        ClienteResponseDTO atual = clienteService.buscarPorId(criado.id());
+        assertNotEquals(ClienteEtags.etag(lido), ClienteEtags.etag(atual));
+        assertEquals("Fulano Atualizado", atual.nome());
+    }
+
+    @Test
+    void atualizarParcialmente_somenteEmail_umSelectEUmUpdate() {
+        ClienteResponseDTO criado = clienteService.criarCliente(cliente("68691814039", "fulano@email.com"));
+        clienteService.buscarPorId(criado.id());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ClienteResponseDTO atualizado = clienteService.atualizarParcialmente(criado.id(), patch("{\"email\":\"novo@email.com\"}"), null);
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals("novo@email.com", atualizado.email());
+        assertEquals(criado.nome(), atualizado.nome());
+        assertEquals(criado.version() + 1, atualizado.version());
+        // A leitura seguinte não vem do cache antigo
+        assertEquals("novo@email.com", clienteService.buscarPorId(criado.id()).email());
+    }
+
+    @Test
+    void atualizarParcialmente_semMudancaReal_naoGeraUpdate() {
+        ClienteResponseDTO criado = clienteService.criarCliente(cliente("68691814039", "fulano@email.com"));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ClienteResponseDTO atualizado = clienteService.atualizarParcialmente(criado.id(),
+                patch("{\"cpf\":\"68691814039\",\"email\":\"fulano@email.com\"}"), criado.version());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(criado.version(), atualizado.version());
+    }
+
+    @Test
+    void atualizarParcialmente_validaEVerificaUnicidadeSoDosCamposEnviados() {
+        ClienteResponseDTO criado = clienteService.criarCliente(cliente("68691814039", "fulano@email.com"));
+        clienteService.criarCliente(cliente("52998224725", "ciclano@email.com"));
+
+        ConstraintViolationException invalido = assertThrows(ConstraintViolationException.class,
+                () -> clienteService.atualizarParcialmente(criado.id(), patch("{\"email\":\"invalido\",\"nome\":null}"), null));
+        BusinessRuleException duplicado = assertThrows(BusinessRuleException.class,
+                () -> clienteService.atualizarParcialmente(criado.id(), patch("{\"email\":\"ciclano@email.com\"}"), null));
+        ClienteResponseDTO renomeado = clienteService.atualizarParcialmente(criado.id(), patch("{\"nome\":\"João Ninguém\"}"), null);
+
+        assertEquals(Set.of("email", "nome"), invalido.getConstraintViolations().stream()
+                .map(v -> v.getPropertyPath().toString()).collect(Collectors.toSet()));
+        assertEquals(ErrorCode.EMAIL_ALREADY_EXISTS, duplicado.getErrorCode());
+        assertEquals("joao ninguem", clienteRepository.findById(renomeado.id()).orElseThrow().getNomeBusca());
+    }
+
+    // A listagem roda na transação somente-leitura da classe: sessão em FlushMode.MANUAL (sem flush no commit)
+    // e entidades carregadas como read-only (sem snapshot para dirty checking)
+    @Test
+    void listarClientes_transacaoSomenteLeitura_sessaoManualEEntidadesReadOnly() {
+        for (int i = 0; i < 3; i++) {
+            clienteService.criarCliente(cliente(cpf(900 + i), "pagina" + i + "@email.com"));
+        }
+        List<String> carregados = new CopyOnWriteArrayList<>();
+        AtomicBoolean capturando = new AtomicBoolean(true);
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, (PostLoadEventListener) evento -> {
+                    if (capturando.get() && evento.getEntity() instanceof Cliente) {
+                        carregados.add(evento.getSession().getHibernateFlushMode() + "/"
+                                + evento.getSession().isReadOnly(evento.getEntity()));
+                    }
+                });
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        try {
+            assertEquals(3, clienteService.listarClientes(PageRequest.of(0, 10)).getNumberOfElements());
+        } finally {
+            capturando.set(false);
+        }
+
+        assertEquals(List.of("MANUAL/true", "MANUAL/true", "MANUAL/true"), carregados);
+        assertEquals(0, statistics.getFlushCount());
+    }
+
+    private ClientePatchDTO patch(String json) {
+        try {
+            return objectMapper.readValue(json, ClientePatchDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
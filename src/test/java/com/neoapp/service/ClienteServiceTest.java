@@ -1,13 +1,19 @@
 package com.neoapp.service;
 
+import com.neoapp.cache.ClienteCache;
 import com.neoapp.dto.ClienteMapper;
 import com.neoapp.dto.ClienteRequestDTO;
 import com.neoapp.dto.ClienteResponseDTO;
 import com.neoapp.exception.BusinessRuleException;
+import com.neoapp.exception.ConflictException;
 import com.neoapp.exception.ErrorCode;
+import com.neoapp.exception.PreconditionFailedException;
 import com.neoapp.exception.ResourceNotFoundException;
 import com.neoapp.model.Cliente;
 import com.neoapp.repository.ClienteRepository;
+import com.neoapp.search.ClienteNomeSearch;
+import com.neoapp.search.ModoBusca;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,10 +24,15 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Period;
@@ -40,6 +51,18 @@ class ClienteServiceTest {
     @Mock
     private ClienteMapper mapper;
 
+    @Mock
+    private ClienteNomeSearch nomeSearch;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ClienteCache clienteCache;
+
+    @Mock
+    private Validator validator;
+
     @Captor
     private ArgumentCaptor<Cliente> clienteCaptor;
 
@@ -79,15 +102,19 @@ class ClienteServiceTest {
         );
     }
 
+    private static DataIntegrityViolationException violacao(String constraint) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("Unique index or primary key violation",
+                        new SQLException("23505"), constraint));
+    }
+
     @Nested
     @DisplayName("Testes de criarCliente")
     class criarClientes{
         void criarCliente_valido_retornaDTO_comIdadeCorreta() {
             // Cenário: CPF e email não existem
-            when(clienteRepository.findByCpf(requestDTO.cpf())).thenReturn(Optional.empty());
-            when(clienteRepository.findByEmail(requestDTO.email())).thenReturn(Optional.empty());
             when(mapper.toEntity(requestDTO)).thenReturn(cliente);
-            when(clienteRepository.save(clienteCaptor.capture())).thenReturn(cliente);
+            when(clienteRepository.saveAndFlush(clienteCaptor.capture())).thenReturn(cliente);
             when(mapper.toDto(cliente)).thenReturn(responseDTO);
 
             ClienteResponseDTO result = clienteService.criarCliente(requestDTO);
@@ -106,9 +133,7 @@ class ClienteServiceTest {
             assertEquals(requestDTO.email(), clienteSalvo.getEmail());
             assertEquals(requestDTO.dataNascimento(), clienteSalvo.getDataNascimento());
 
-            verify(clienteRepository).findByCpf(requestDTO.cpf());
-            verify(clienteRepository).findByEmail(requestDTO.email());
-            verify(clienteRepository).save(any(Cliente.class));
+            verify(clienteRepository).saveAndFlush(any(Cliente.class));
             verifyNoMoreInteractions(clienteRepository);
             verify(mapper).toEntity(requestDTO);
             verify(mapper).toDto(cliente);
@@ -117,32 +142,39 @@ class ClienteServiceTest {
 
         @Test
         void criarCliente_comCpfExistente_lancaBusinessRuleException() {
-            when(clienteRepository.findByCpf(requestDTO.cpf())).thenReturn(Optional.of(cliente));
+            when(mapper.toEntity(requestDTO)).thenReturn(cliente);
+            when(clienteRepository.saveAndFlush(cliente)).thenThrow(violacao("PUBLIC.UK_CLIENTS_CPF_INDEX_1"));
 
             BusinessRuleException ex = assertThrows(BusinessRuleException.class,
                     () -> clienteService.criarCliente(requestDTO));
 
             assertEquals(ErrorCode.CPF_ALREADY_EXISTS, ex.getErrorCode());
 
-            verify(clienteRepository).findByCpf(requestDTO.cpf());
+            verify(clienteRepository).saveAndFlush(cliente);
             verifyNoMoreInteractions(clienteRepository);
-            verifyNoInteractions(mapper);
         }
 
         @Test
         void criarCliente_comEmailExistente_lancaBusinessRuleException() {
-            when(clienteRepository.findByCpf(requestDTO.cpf())).thenReturn(Optional.empty());
-            when(clienteRepository.findByEmail(requestDTO.email())).thenReturn(Optional.of(cliente));
+            when(mapper.toEntity(requestDTO)).thenReturn(cliente);
+            when(clienteRepository.saveAndFlush(cliente)).thenThrow(violacao("uk_clients_email"));
 
             BusinessRuleException ex = assertThrows(BusinessRuleException.class,
                     () -> clienteService.criarCliente(requestDTO));
 
             assertEquals(ErrorCode.EMAIL_ALREADY_EXISTS, ex.getErrorCode());
 
-            verify(clienteRepository).findByCpf(requestDTO.cpf());
-            verify(clienteRepository).findByEmail(requestDTO.email());
+            verify(clienteRepository).saveAndFlush(cliente);
             verifyNoMoreInteractions(clienteRepository);
-            verifyNoInteractions(mapper);
+        }
+
+        @Test
+        void criarCliente_outraViolacao_propagaExcecaoOriginal() {
+            when(mapper.toEntity(requestDTO)).thenReturn(cliente);
+            when(clienteRepository.saveAndFlush(cliente)).thenThrow(violacao("fk_qualquer"));
+
+            assertThrows(DataIntegrityViolationException.class,
+                    () -> clienteService.criarCliente(requestDTO));
         }
     }
 
@@ -152,10 +184,8 @@ class ClienteServiceTest {
         @Test
         void atualizarCliente_valido_retornaDTO() {
             when(clienteRepository.findById(1L)).thenReturn(Optional.of(cliente));
-            when(clienteRepository.findByCpf(requestDTO.cpf())).thenReturn(Optional.of(cliente));
-            when(clienteRepository.findByEmail(requestDTO.email())).thenReturn(Optional.of(cliente));
             doNothing().when(mapper).updateClienteFromDto(requestDTO, cliente);
-            when(clienteRepository.save(clienteCaptor.capture())).thenReturn(cliente);
+            when(clienteRepository.saveAndFlush(clienteCaptor.capture())).thenReturn(cliente);
             when(mapper.toDto(cliente)).thenReturn(responseDTO);
 
             ClienteResponseDTO result = clienteService.atualizarCliente(1L, requestDTO);
@@ -170,9 +200,7 @@ class ClienteServiceTest {
             assertEquals(requestDTO.dataNascimento(), atualizado.getDataNascimento());
 
             verify(clienteRepository).findById(1L);
-            verify(clienteRepository).findByCpf(requestDTO.cpf());
-            verify(clienteRepository).findByEmail(requestDTO.email());
-            verify(clienteRepository).save(any(Cliente.class));
+            verify(clienteRepository).saveAndFlush(any(Cliente.class));
             verify(mapper).updateClienteFromDto(requestDTO, cliente);
             verify(mapper).toDto(cliente);
             verifyNoMoreInteractions(clienteRepository, mapper);
@@ -193,11 +221,8 @@ class ClienteServiceTest {
 
         @Test
         void atualizarCliente_cpfDuplicado_lancaBusinessRuleException() {
-            Cliente outro = new Cliente();
-            outro.setId(2L);
-
             when(clienteRepository.findById(1L)).thenReturn(Optional.of(cliente));
-            when(clienteRepository.findByCpf(requestDTO.cpf())).thenReturn(Optional.of(outro));
+            when(clienteRepository.saveAndFlush(cliente)).thenThrow(violacao("uk_clients_cpf"));
 
             BusinessRuleException ex = assertThrows(BusinessRuleException.class,
                     () -> clienteService.atualizarCliente(1L, requestDTO));
@@ -207,18 +232,41 @@ class ClienteServiceTest {
 
         @Test
         void atualizarCliente_emailDuplicado_lancaBusinessRuleException() {
-            Cliente outro = new Cliente();
-            outro.setId(2L);
-
             when(clienteRepository.findById(1L)).thenReturn(Optional.of(cliente));
-            when(clienteRepository.findByCpf(requestDTO.cpf())).thenReturn(Optional.of(cliente));
-            when(clienteRepository.findByEmail(requestDTO.email())).thenReturn(Optional.of(outro));
+            when(clienteRepository.saveAndFlush(cliente)).thenThrow(violacao("uk_clients_email"));
 
             BusinessRuleException ex = assertThrows(BusinessRuleException.class,
                     () -> clienteService.atualizarCliente(1L, requestDTO));
 
             assertEquals(ErrorCode.EMAIL_ALREADY_EXISTS, ex.getErrorCode());
         }
+
+        @Test
+        void atualizarCliente_versaoDoIfMatchDesatualizada_lancaPreconditionFailed() {
+            when(clienteRepository.findById(1L)).thenReturn(Optional.of(cliente));
+
+            PreconditionFailedException ex = assertThrows(PreconditionFailedException.class,
+                    () -> clienteService.atualizarCliente(1L, requestDTO, 5L));
+
+            assertEquals(ErrorCode.CLIENTE_VERSION_MISMATCH, ex.getErrorCode());
+            verify(clienteRepository, never()).saveAndFlush(any());
+        }
+
+        @Test
+        void atualizarCliente_gravacaoConcorrente_lancaConflictOuPreconditionFailed() {
+            when(clienteRepository.findById(1L)).thenReturn(Optional.of(cliente));
+            when(clienteRepository.saveAndFlush(cliente))
+                    .thenThrow(new ObjectOptimisticLockingFailureException(Cliente.class, 1L));
+
+            ConflictException semIfMatch = assertThrows(ConflictException.class,
+                    () -> clienteService.atualizarCliente(1L, requestDTO));
+            PreconditionFailedException comIfMatch = assertThrows(PreconditionFailedException.class,
+                    () -> clienteService.atualizarCliente(1L, requestDTO, 0L));
+
+            assertEquals(ErrorCode.CLIENTE_UPDATE_CONFLICT, semIfMatch.getErrorCode());
+            assertEquals(ErrorCode.CLIENTE_VERSION_MISMATCH, comIfMatch.getErrorCode());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
     }
     @Nested
     @DisplayName("Testes de deletarCliente")
@@ -232,6 +280,7 @@ class ClienteServiceTest {
             verify(clienteRepository).existsById(1L);
             verify(clienteRepository).deleteById(1L);
             verifyNoMoreInteractions(clienteRepository);
+            verify(eventPublisher).publishEvent(ClienteEvent.removido(1L));
         }
 
         @Test
@@ -258,6 +307,17 @@ class ClienteServiceTest {
             assertEquals(responseDTO, result);
             verify(clienteRepository).findByCpf(cliente.getCpf());
             verify(mapper).toDto(cliente);
+            verify(clienteCache).put(responseDTO);
+        }
+
+        @Test
+        void buscarPorCpf_emCache_naoConsultaBanco() {
+            when(clienteCache.porCpf(cliente.getCpf())).thenReturn(Optional.of(responseDTO));
+
+            ClienteResponseDTO result = clienteService.buscarPorCpf(cliente.getCpf());
+
+            assertEquals(responseDTO, result);
+            verifyNoInteractions(clienteRepository, mapper);
         }
 
         @Test
@@ -285,6 +345,17 @@ class ClienteServiceTest {
             assertEquals(responseDTO, result);
             verify(clienteRepository).findById(1L);
             verify(mapper).toDto(cliente);
+            verify(clienteCache).put(responseDTO);
+        }
+
+        @Test
+        void buscarPorId_emCache_naoConsultaBanco() {
+            when(clienteCache.porId(1L)).thenReturn(Optional.of(responseDTO));
+
+            ClienteResponseDTO result = clienteService.buscarPorId(1L);
+
+            assertEquals(responseDTO, result);
+            verifyNoInteractions(clienteRepository, mapper);
         }
 
         @Test
@@ -305,10 +376,10 @@ class ClienteServiceTest {
         @Test
         void listarPorNome_retornaPaginaDTO() {
             Page<Cliente> page = new PageImpl<>(List.of(cliente));
-            when(clienteRepository.findByNomeContainingIgnoreCase("Teste", PageRequest.of(0, 10))).thenReturn(page);
+            when(nomeSearch.buscar("Teste", ModoBusca.CONTEM, PageRequest.of(0, 10))).thenReturn(page);
             when(mapper.toDto(cliente)).thenReturn(responseDTO);
 
-            Page<ClienteResponseDTO> result = clienteService.listarPorNome("Teste", PageRequest.of(0, 10));
+            Page<ClienteResponseDTO> result = clienteService.listarPorNome("Teste", ModoBusca.CONTEM, PageRequest.of(0, 10));
 
             assertEquals(1, result.getContent().size());
             assertEquals(responseDTO, result.getContent().getFirst());
@@ -0,0 +1,64 @@
+package com.neoapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neoapp.CpfGenerator;
+import com.neoapp.dto.DocumentoValidacaoResultDTO;
+import com.neoapp.exception.BusinessRuleException;
+import com.neoapp.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentoValidacaoServiceImplTest {
+
+    private final DocumentoValidacaoServiceImpl service = new DocumentoValidacaoServiceImpl(new ObjectMapper(), 2);
+
+    @Test
+    void validarJson_contaPorTipoEListaOsPrimeirosInvalidos() {
+        DocumentoValidacaoResultDTO resultado = service.validarJson(corpo(
+                "[\"68691814039\", \"11.222.333/0001-81\", \"12345678900\", 123, null, {\"cpf\": \"68691814039\"}]"));
+
+        assertEquals(6, resultado.total());
+        assertEquals(1, resultado.cpfs());
+        assertEquals(1, resultado.cnpjs());
+        assertEquals(4, resultado.invalidos());
+        assertEquals(2, resultado.primeirosInvalidos().size());
+        assertEquals(2, resultado.primeirosInvalidos().get(0).posicao());
+        assertEquals("12345678900", resultado.primeirosInvalidos().get(0).valor());
+    }
+
+    @Test
+    void validarJson_malformado() {
+        BusinessRuleException e = assertThrows(BusinessRuleException.class,
+                () -> service.validarJson(corpo("[\"68691814039\", ")));
+        assertEquals(ErrorCode.BAD_FORMAT_JSON, e.getErrorCode());
+        assertThrows(BusinessRuleException.class, () -> service.validarJson(corpo("{\"cpf\": \"68691814039\"}")));
+    }
+
+    @Test
+    void validarLinhas_variosBlocosEmParalelo() {
+        // Mais de um bloco, para passar pelo caminho paralelo e pela posição acumulada entre blocos
+        int quantidade = 40_000;
+        String linhas = IntStream.range(0, quantidade)
+                .mapToObj(i -> i == 30_000 ? "\"00000000000\"" : CpfGenerator.cpf(i + 1))
+                .collect(Collectors.joining("\n", "", "\n\n"));
+
+        DocumentoValidacaoResultDTO resultado = service.validarLinhas(corpo(linhas));
+
+        assertEquals(quantidade, resultado.total());
+        assertEquals(quantidade - 1, resultado.cpfs());
+        assertEquals(1, resultado.invalidos());
+        assertEquals(30_000, resultado.primeirosInvalidos().get(0).posicao());
+        assertEquals("00000000000", resultado.primeirosInvalidos().get(0).valor());
+    }
+
+    private InputStream corpo(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+}
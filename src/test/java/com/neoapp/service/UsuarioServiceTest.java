@@ -6,6 +6,8 @@ import com.neoapp.exception.BusinessRuleException;
 import com.neoapp.exception.ErrorCode;
 import com.neoapp.model.Usuario;
 import com.neoapp.repository.UsuarioRepository;
+import com.neoapp.security.AppUserDetailsService;
+import com.neoapp.security.TokenRevocationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,6 +30,10 @@ public class UsuarioServiceTest {
     private UsuarioRepository userRepository;
     @Mock
     private BCryptPasswordEncoder bCryptPasswordEncoder;
+    @Mock
+    private TokenRevocationRegistry revocationRegistry;
+    @Mock
+    private AppUserDetailsService userDetailsService;
 
     @Captor
     private ArgumentCaptor<Usuario> usuarioCaptor;
@@ -65,6 +71,7 @@ public class UsuarioServiceTest {
         verify(userRepository).findByUsername(createDTO.username());
         verify(bCryptPasswordEncoder).encode(createDTO.password());
         verify(userRepository).save(usuarioCaptor.capture());
+        verify(userDetailsService).evict(createDTO.username());
         verifyNoMoreInteractions(userRepository);
     }
 
@@ -81,4 +88,16 @@ public class UsuarioServiceTest {
         verifyNoInteractions(bCryptPasswordEncoder);
     }
 
+    @Test
+    void revogarTokens_whenUserExists_thenIncrementsVersionAndRegistersRevocation(){
+        when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
+
+        service.revogarTokens(user.getUsername());
+
+        assertEquals(1, user.getTokenVersion());
+        verify(userRepository).save(user);
+        verify(userDetailsService).evict(user.getUsername());
+        verify(revocationRegistry).revogar(user.getUsername(), 1);
+    }
+
 }
@@ -0,0 +1,59 @@
+package com.neoapp.validation;
+
+import com.neoapp.CpfGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentosTest {
+
+    @Test
+    void cpfValido_comESemMascara() {
+        assertTrue(Documentos.cpfValido("68691814039", false));
+        assertFalse(Documentos.cpfValido("686.918.140-39", false));
+        assertTrue(Documentos.cpfValido("686.918.140-39", true));
+        assertTrue(Documentos.cpfValido("68691814039", true));
+    }
+
+    @Test
+    void cpfInvalido() {
+        assertFalse(Documentos.cpfValido("68691814038", false)); // dígito verificador
+        assertFalse(Documentos.cpfValido("11111111111", false)); // todos iguais
+        assertFalse(Documentos.cpfValido("6869181403", false));
+        assertFalse(Documentos.cpfValido("6869181403a", false));
+        assertFalse(Documentos.cpfValido("686.918.140.39", true));
+        assertFalse(Documentos.cpfValido("686-918-140.39", true));
+        assertFalse(Documentos.cpfValido(null, true));
+    }
+
+    @Test
+    void cpfValido_mesmoResultadoQueOGerador() {
+        for (int base = 1; base <= 1000; base++) {
+            String cpf = CpfGenerator.cpf(base * 7919);
+            boolean repetido = cpf.chars().distinct().count() == 1;
+            assertEquals(!repetido, Documentos.cpfValido(cpf, false), cpf);
+        }
+    }
+
+    @Test
+    void cnpjValido_numericoEAlfanumerico() {
+        assertTrue(Documentos.cnpjValido("11222333000181", false));
+        assertTrue(Documentos.cnpjValido("11.222.333/0001-81", true));
+        assertFalse(Documentos.cnpjValido("11.222.333/0001-81", false));
+        assertTrue(Documentos.cnpjValido("12ABC34501DE35", false));
+        assertFalse(Documentos.cnpjValido("11222333000182", false));
+        assertFalse(Documentos.cnpjValido("00000000000000", false));
+        assertFalse(Documentos.cnpjValido("12abc34501DE35", false)); // letras só maiúsculas
+    }
+
+    @Test
+    void tipo_pelaForma() {
+        assertEquals(Documentos.Tipo.CPF, Documentos.tipo("68691814039"));
+        assertEquals(Documentos.Tipo.CPF, Documentos.tipo("686.918.140-39"));
+        assertEquals(Documentos.Tipo.CNPJ, Documentos.tipo("11222333000181"));
+        assertEquals(Documentos.Tipo.CNPJ, Documentos.tipo("11.222.333/0001-81"));
+        assertNull(Documentos.tipo("12345678900"));
+        assertNull(Documentos.tipo(""));
+        assertNull(Documentos.tipo(null));
+    }
+}